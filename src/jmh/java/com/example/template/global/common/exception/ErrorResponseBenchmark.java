@@ -0,0 +1,54 @@
+package com.example.template.global.common.exception;
+
+import com.example.template.global.common.util.ApiResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401 거절 응답 1건당 비용: 매번 ObjectMapper 로 직렬화하던 방식과 미리 직렬화한 바이트 기록 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+
+  private ObjectMapper objectMapper;
+  private ErrorResponseBodies errorResponseBodies;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    errorResponseBodies = new ErrorResponseBodies(objectMapper);
+  }
+
+  @Benchmark
+  public Object writePreEncoded() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    errorResponseBodies.write(response, HttpServletResponse.SC_UNAUTHORIZED, ErrorMessage.MISSING_TOKEN);
+    return response;
+  }
+
+  @Benchmark
+  public Object writeWithObjectMapper() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    ApiResult<Object> apiResult = ApiResult.fail(HttpServletResponse.SC_UNAUTHORIZED, ErrorMessage.MISSING_TOKEN);
+    response.getWriter().write(objectMapper.writeValueAsString(apiResult));
+    response.getWriter().flush();
+    return response;
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.template.global.common.exception;
+
+import com.example.template.global.common.util.ApiResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 실패 폭주 시 예외 1건의 비용: 던지기(스택 수집) + GlobalExceptionHandler 처리(로그/바디)
+ * stackDepth 는 서블릿/시큐리티/트랜잭션 프록시를 거친 실제 호출 깊이를 흉내 낸다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FailedLoginBenchmark {
+
+  private static final Logger log = LoggerFactory.getLogger(FailedLoginBenchmark.class);
+
+  @Param({"32", "128"})
+  private int stackDepth;
+
+  private GlobalExceptionHandler handler;
+
+  @Setup
+  public void setUp() {
+    handler = new GlobalExceptionHandler(new ErrorResponseBodies(new ObjectMapper()));
+  }
+
+  @Benchmark
+  public Object before() {
+    try {
+      throwAt(stackDepth, false);
+    } catch (ApiException e) {
+      // 이전 처리: 매번 스택 수집 + ERROR 로그 + ApiResult 직렬화 대상 생성
+      log.error("API Exception: code={}, message={}", e.getCode(), e.getMessage());
+      return ResponseEntity.status(e.getCode()).body(ApiResult.fail(e.getCode(), e.getMessage()));
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Object after() {
+    try {
+      throwAt(stackDepth, true);
+    } catch (ApiException e) {
+      return handler.handleApiException(e);
+    }
+    return null;
+  }
+
+  private static void throwAt(int depth, boolean shared) {
+    if (depth > 0) {
+      throwAt(depth - 1, shared);
+      return;
+    }
+    if (shared) {
+      throw ApiExceptions.INVALID_CREDENTIALS;
+    }
+    throw new ApiException(400, ErrorMessage.INVALID_CREDENTIALS);
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.template.global.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건에서 발생하는 로그(시도 DEBUG 1건 + 정상 흐름 INFO 2건)의 처리량 비교
+ * <p>
+ * - disabled: 로그 OFF (기준선)
+ * - sync: 요청 스레드에서 바로 포맷/출력 (이전 구성)
+ * - async: AsyncAppender 로 포맷/출력을 별도 스레드로 넘김
+ * - asyncSampled: async + ROUTINE 로그 10건 중 1건만 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+  @Param({"disabled", "sync", "async", "asyncSampled"})
+  private String mode;
+
+  private LoggerContext context;
+  private Logger logger;
+
+  @Setup
+  public void setUp() {
+    context = new LoggerContext();
+    context.start();
+
+    OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+    sink.setContext(context);
+    sink.setEncoder(encoder(context));
+    sink.setOutputStream(OutputStream.nullOutputStream());
+    sink.start();
+
+    Appender<ILoggingEvent> appender = sink;
+    if (mode.startsWith("async")) {
+      AsyncAppender async = new AsyncAppender();
+      async.setContext(context);
+      async.setQueueSize(8192);
+      async.setDiscardingThreshold(1638);
+      async.setNeverBlock(true);
+      async.addAppender(sink);
+      async.start();
+      appender = async;
+    }
+    if (mode.equals("asyncSampled")) {
+      RoutineLogSamplingFilter sampling = new RoutineLogSamplingFilter();
+      sampling.setContext(context);
+      sampling.setRates("com.example.template=10");
+      sampling.start();
+      context.addTurboFilter(sampling);
+    }
+
+    Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    root.detachAndStopAllAppenders();
+    root.addAppender(appender);
+    root.setLevel(mode.equals("disabled") ? Level.OFF : Level.INFO);
+    logger = context.getLogger("com.example.template.domain.user.service.impl.AuthServiceImpl");
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.stop();
+  }
+
+  @Benchmark
+  public void loginRequest() {
+    MDC.put(MdcLoggingFilter.REQUEST_ID, "5f2b9c1de0a3b471");
+    MDC.put(MdcLoggingFilter.USER_ID, "42");
+    try {
+      logger.debug("[AuthService] 로그인 시도");
+      logger.info(LogMarkers.ROUTINE, "[UserDetailsService] 사용자 인증 정보 조회 성공");
+      logger.info(LogMarkers.ROUTINE, "[AuthService] 로그인 성공 userId={}", 42L);
+    } finally {
+      MDC.remove(MdcLoggingFilter.REQUEST_ID);
+      MDC.remove(MdcLoggingFilter.USER_ID);
+    }
+  }
+
+  private static PatternLayoutEncoder encoder(LoggerContext context) {
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] [%X{requestId:-}] [%X{userId:-}] %-40.40logger{39} : %m%n");
+    encoder.start();
+    return encoder;
+  }
+}
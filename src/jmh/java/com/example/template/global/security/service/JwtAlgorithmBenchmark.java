@@ -0,0 +1,76 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.monitoring.AuthMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jwt.algorithm 별 액세스 토큰 서명/검증 비용 (배포별 알고리즘 선택용)
+ * - HS256: 대칭 키 (검증하는 서비스도 secret 필요)
+ * - ES256 / EdDSA: 비대칭 키, kid 헤더 + JwtKeyRing 조회 포함
+ * Setup 에서 알고리즘별 토큰 길이를 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAlgorithmBenchmark {
+
+  @Param({"HS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String accessToken;
+
+  @Setup
+  public void setUp() throws Exception {
+    JwtKeyProperties properties = new JwtKeyProperties();
+    properties.setAlgorithm(algorithm);
+    properties.setSecret(JwtTokenProviderBenchmark.SECRET);
+    if (!"HS256".equals(algorithm)) {
+      properties.setKeys(List.of(keyEntry("bench", keyPair())));
+    }
+    jwtTokenProvider = new JwtTokenProvider(JwtKeyRing.from(properties), 1800, 604800, AuthMetrics.noop());
+    accessToken = jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+    System.out.printf("%n[Token] algorithm=%s length=%d%n", algorithm, accessToken.length());
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+  }
+
+  @Benchmark
+  public TokenClaims verify() {
+    return jwtTokenProvider.parseToken(accessToken);
+  }
+
+  private KeyPair keyPair() throws Exception {
+    if ("ES256".equals(algorithm)) {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+      generator.initialize(new ECGenParameterSpec("secp256r1"));
+      return generator.generateKeyPair();
+    }
+    return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+  }
+
+  private static JwtKeyProperties.KeyEntry keyEntry(String kid, KeyPair keyPair) {
+    JwtKeyProperties.KeyEntry entry = new JwtKeyProperties.KeyEntry();
+    entry.setKid(kid);
+    entry.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+    entry.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    return entry;
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.common.util.CookieUtil;
+import com.example.template.global.datasource.ReadYourWritesTracker;
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보호된 경로에 유효한 토큰으로 요청했을 때 JwtAuthenticationFilter 전체 실행 비용 (DB 검증 비활성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private JwtAuthenticationFilter filter;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(JwtTokenProviderBenchmark.SECRET, 1800, 604800);
+    accessToken = jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+    filter = new JwtAuthenticationFilter(jwtTokenProvider, OpaqueTokenStore.disabled(), JwtRevocationList.disabled(),
+        null, new CookieUtil(false, "Lax", "", 1800, 604800), AuthMetrics.noop(),
+        new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
+  }
+
+  @Benchmark
+  public Object bearerToken() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader("Authorization", "Bearer " + accessToken);
+    return run(request);
+  }
+
+  @Benchmark
+  public Object cookieToken() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.setCookies(new Cookie("theme", "dark"), new Cookie(CookieUtil.ACCESS_TOKEN, accessToken));
+    return run(request);
+  }
+
+  private Object run(MockHttpServletRequest request) throws Exception {
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.common.util.CookieUtil;
+import com.example.template.global.datasource.ReadYourWritesTracker;
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * permitAll/preflight 요청의 JWT 처리 생략 효과 측정
+ * protectedPathWithExpiredCookie 는 경로 분류 이전에 모든 요청이 지불하던 비용(검증 + 만료 로그)에 해당한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterRoutingBenchmark {
+
+  private static final String SECRET = "benchmark-secret-should-be-at-least-32-characters!";
+
+  private JwtAuthenticationFilter filter;
+  private String expiredToken;
+
+  @Setup
+  public void setUp() {
+    JwtTokenProvider expiredIssuer = new JwtTokenProvider(SECRET, -60, 604800);
+    expiredToken = expiredIssuer.createAccessToken(1L, "user@test.com", "GENERAL");
+    filter = new JwtAuthenticationFilter(new JwtTokenProvider(SECRET, 1800, 604800), OpaqueTokenStore.disabled(),
+        JwtRevocationList.disabled(), null, new CookieUtil(false, "Lax", "", 1800, 604800), AuthMetrics.noop(),
+        new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
+  }
+
+  @Benchmark
+  public Object preflight() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/user/me");
+    request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+    request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+    return run(request);
+  }
+
+  @Benchmark
+  public Object publicPathWithExpiredCookie() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+    request.setCookies(new Cookie("accessToken", expiredToken));
+    return run(request);
+  }
+
+  @Benchmark
+  public Object protectedPathWithExpiredCookie() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.setCookies(new Cookie("accessToken", expiredToken));
+    return run(request);
+  }
+
+  private Object run(MockHttpServletRequest request) throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+    return chain.getRequest();
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.template.global.security.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 비용
+ * verifyAndExtract 는 검증 + userId/email/role 을 각각 파싱하는 이전 필터 흐름, parseToken 은 한 번만 파싱하는 현재 흐름이다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+  static final String SECRET = "benchmark-secret-should-be-at-least-32-characters!";
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800);
+    accessToken = jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+  }
+
+  @Benchmark
+  public String createAccessToken() {
+    return jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtTokenProvider.validateToken(accessToken);
+  }
+
+  @Benchmark
+  public void verifyAndExtract(Blackhole blackhole) {
+    blackhole.consume(jwtTokenProvider.validateToken(accessToken));
+    blackhole.consume(jwtTokenProvider.getUserIdFromToken(accessToken));
+    blackhole.consume(jwtTokenProvider.getEmailFromToken(accessToken));
+    blackhole.consume(jwtTokenProvider.getRoleFromToken(accessToken));
+  }
+
+  @Benchmark
+  public TokenClaims parseToken() {
+    return jwtTokenProvider.parseToken(accessToken);
+  }
+}
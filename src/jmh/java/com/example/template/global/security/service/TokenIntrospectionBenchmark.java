@@ -0,0 +1,75 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 일괄 검사(TokenIntrospector) 처리량
+ * 결과의 tokens 보조 카운터가 초당 검사한 토큰 수이다 (배치 처리량 ops/s 는 배치 수)
+ * - cache=false: security.introspection.cache.maximum-size=0 과 같음 (매번 서명 검증)
+ * - cache=true: 같은 토큰을 반복 검사하므로 첫 반복 이후 모두 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenIntrospectionBenchmark {
+
+  @Param({"1", "100", "10000"})
+  private int batchSize;
+
+  @Param({"false", "true"})
+  private boolean cache;
+
+  private TokenIntrospector tokenIntrospector;
+  private List<String> tokens;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Counters {
+
+    public long tokens;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      tokens = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(JwtTokenProviderBenchmark.SECRET, 1800, 604800);
+    tokenIntrospector = new TokenIntrospector(jwtTokenProvider, OpaqueTokenStore.disabled(),
+        JwtRevocationList.disabled(), cache ? batchSize : 0, 0);
+    tokens = new ArrayList<>(batchSize);
+    for (long i = 0; i < batchSize; i++) {
+      tokens.add(jwtTokenProvider.createAccessToken(i, "user" + i + "@test.com", "GENERAL"));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    tokenIntrospector.shutdown();
+  }
+
+  @Benchmark
+  public List<TokenIntrospection> introspect(Counters counters) {
+    List<TokenIntrospection> results = tokenIntrospector.introspect(tokens);
+    counters.tokens += results.size();
+    return results;
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.template.global.security.session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필터가 요청마다 부르는 JwtRevocationList.isRevoked 비용 (폐기 목록에 revoked 개가 있을 때)
+ * - notRevoked: 대부분의 요청 (Bloom filter 에서 끝남), -Pjmh.profilers=gc 로 할당이 0 인지 확인한다
+ * - revoked: 폐기된 토큰 (Bloom filter 통과 후 메모리 맵 테이블 조회), 표본은 min(revoked, SAMPLES) 개를 돌려 쓴다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtRevocationListBenchmark {
+
+  private static final int SAMPLES = 1024;
+
+  @Param({"1000", "1000000"})
+  private int revoked;
+
+  private Path dir;
+  private JwtRevocationList revocationList;
+  private String[] revokedIds;
+  private final String[] activeIds = new String[SAMPLES];
+  private int cursor;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = Files.createTempDirectory("revocation-bench");
+    revocationList = new JwtRevocationList(true, dir.resolve("revocations.dat").toString(), revoked, null);
+    Instant expiresAt = Instant.now().plusSeconds(3600);
+    // revoked 가 SAMPLES 보다 적을 때 빈(null) 표본이 jti 없음 분기로 빠지지 않게 실제로 폐기한 개수만큼만 둔다
+    revokedIds = new String[Math.min(revoked, SAMPLES)];
+    for (int i = 0; i < revoked; i++) {
+      String tokenId = UUID.randomUUID().toString();
+      revocationList.revoke(tokenId, expiresAt);
+      if (i < revokedIds.length) {
+        revokedIds[i] = tokenId;
+      }
+    }
+    for (int i = 0; i < SAMPLES; i++) {
+      activeIds[i] = UUID.randomUUID().toString();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    revocationList.close();
+    Files.deleteIfExists(dir.resolve("revocations.dat"));
+    Files.deleteIfExists(dir);
+  }
+
+  @Benchmark
+  public boolean notRevoked() {
+    return revocationList.isRevoked(activeIds[cursor++ & (SAMPLES - 1)]);
+  }
+
+  @Benchmark
+  public boolean revoked() {
+    return revocationList.isRevoked(revokedIds[(cursor++ & Integer.MAX_VALUE) % revokedIds.length]);
+  }
+}
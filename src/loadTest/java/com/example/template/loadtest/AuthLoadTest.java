@@ -0,0 +1,98 @@
+package com.example.template.loadtest;
+
+import com.example.template.domain.user.dto.SignUpRequestDto;
+import com.example.template.domain.user.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 랜덤 포트로 앱(test 프로필, H2)을 띄우고 설정한 비율로 인증/사용자 API 를 동시에 호출해
+ * 엔드포인트별 지연 시간 분포를 출력한다. p99 허용치나 오류 비율을 넘으면 실패한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AuthLoadTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("부하 테스트 - 엔드포인트별 p99 가 허용치 이내다")
+  void endpoints_stayWithinP99Budget() throws Exception {
+    // given
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    ExecutorService executor = Executors.newFixedThreadPool(settings.clients());
+    seedUsers(settings.users(), executor);
+
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    String baseUrl = "http://localhost:" + port;
+    LatencyRecorder recorder = new LatencyRecorder();
+    AtomicBoolean running = new AtomicBoolean(true);
+
+    // when
+    List<Future<?>> clients = new ArrayList<>();
+    for (int i = 0; i < settings.clients(); i++) {
+      VirtualClient client = new VirtualClient(httpClient, objectMapper, baseUrl,
+          VirtualClient.seededEmail(i), settings.users(), settings.conditionalMe());
+      clients.add(executor.submit(() -> {
+        while (running.get()) {
+          client.execute(settings.nextEndpoint(ThreadLocalRandom.current()), recorder);
+        }
+      }));
+    }
+    Thread.sleep(settings.warmup().toMillis());
+    recorder.reset();
+    Thread.sleep(settings.duration().toMillis());
+    running.set(false);
+    for (Future<?> client : clients) {
+      client.get();
+    }
+    executor.shutdown();
+
+    // then
+    System.out.println(recorder.report(settings));
+    assertThat(recorder.violations(settings)).isEmpty();
+  }
+
+  /**
+   * 클라이언트별 전용 사용자 가입 (BCrypt 비용 때문에 병렬로 처리)
+   */
+  private void seedUsers(int users, ExecutorService executor) throws Exception {
+    List<Future<?>> futures = new ArrayList<>(users);
+    for (int i = 0; i < users; i++) {
+      String email = VirtualClient.seededEmail(i);
+      futures.add(executor.submit(() ->
+          authService.signUp(new SignUpRequestDto(email, VirtualClient.PASSWORD, "Loadtester"))));
+    }
+    for (Future<?> future : futures) {
+      future.get(1, TimeUnit.MINUTES);
+    }
+  }
+}
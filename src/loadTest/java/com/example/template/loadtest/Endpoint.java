@@ -0,0 +1,37 @@
+package com.example.template.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트, key 는 loadtest.mix / loadtest.p99-budget-ms 설정에서 사용하는 이름
+ */
+enum Endpoint {
+
+  SIGN_UP("sign-up", "POST /api/auth/signUp", false),
+  LOGIN("login", "POST /api/auth/login", false),
+  REFRESH("refresh", "POST /api/auth/refresh", true),
+  LOGOUT("logout", "POST /api/auth/logout", true),
+  CHECK_EMAIL("check-email", "GET  /api/auth/check-email", false),
+  ME("me", "GET  /api/user/me", true);
+
+  final String key;
+  final String label;
+
+  /**
+   * 로그인 상태(토큰 보유)가 필요한지 여부
+   */
+  final boolean requiresLogin;
+
+  Endpoint(String key, String label, boolean requiresLogin) {
+    this.key = key;
+    this.label = label;
+    this.requiresLogin = requiresLogin;
+  }
+
+  static Endpoint fromKey(String key) {
+    for (Endpoint endpoint : values()) {
+      if (endpoint.key.equals(key)) {
+        return endpoint;
+      }
+    }
+    throw new IllegalArgumentException("[LoadTest] 알 수 없는 엔드포인트: " + key);
+  }
+}
@@ -0,0 +1,201 @@
+package com.example.template.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추출한 부트 jar 를 워밍업(WarmUpRunner) 끔/켬으로 새로 띄워, readiness 직후 첫 1분 동안의 로그인/me 지연 시간을 구간별로 비교
+ * <p>
+ * - cold: --warm-up.enabled=false (readiness 가 기동 직후 UP)
+ * - warm: --warm-up.enabled=true (워밍업이 끝난 뒤 readiness UP)
+ * <p>
+ * ./gradlew firstMinuteBenchmark 로 실행하며 시스템 프로퍼티로 옵션을 받는다
+ * - startup.dir / startup.jar / startup.java: StartupBenchmark 와 같음
+ * - firstminute.clients: 동시 클라이언트 수 (기본 16)
+ * - firstminute.duration: 측정 시간 (기본 60s)
+ * - firstminute.window: 집계 구간 (기본 10s)
+ * - firstminute.login-ratio: 요청 중 로그인 비율, 나머지는 /me (기본 0.2)
+ * - firstminute.modes: 측정할 모드 (기본 cold,warm)
+ */
+public final class FirstMinuteBenchmark {
+
+  private static final Duration READY_TIMEOUT = Duration.ofSeconds(180);
+
+  private final Path dir;
+  private final String jar;
+  private final String java;
+  private final int clients;
+  private final Duration duration;
+  private final Duration window;
+  private final double loginRatio;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private FirstMinuteBenchmark(Path dir, String jar, String java, int clients, Duration duration, Duration window,
+      double loginRatio) {
+    this.dir = dir;
+    this.jar = jar;
+    this.java = java;
+    this.clients = clients;
+    this.duration = duration;
+    this.window = window;
+    this.loginRatio = loginRatio;
+  }
+
+  public static void main(String[] args) throws Exception {
+    FirstMinuteBenchmark benchmark = new FirstMinuteBenchmark(
+        Path.of(System.getProperty("startup.dir")),
+        System.getProperty("startup.jar"),
+        System.getProperty("startup.java", "java"),
+        Integer.getInteger("firstminute.clients", 16),
+        Duration.parse("PT" + System.getProperty("firstminute.duration", "60s").toUpperCase(Locale.ROOT)),
+        Duration.parse("PT" + System.getProperty("firstminute.window", "10s").toUpperCase(Locale.ROOT)),
+        Double.parseDouble(System.getProperty("firstminute.login-ratio", "0.2")));
+    List<String> modes = Arrays.stream(System.getProperty("firstminute.modes", "cold,warm").split(","))
+        .map(String::trim)
+        .toList();
+
+    for (String mode : modes) {
+      boolean warmUp = switch (mode) {
+        case "cold" -> false;
+        case "warm" -> true;
+        default -> throw new IllegalArgumentException("[FirstMinute] 알 수 없는 모드: " + mode);
+      };
+      benchmark.run(mode, warmUp);
+    }
+  }
+
+  private void run(String mode, boolean warmUp) throws Exception {
+    int port = freePort();
+    List<String> command = List.of(java, "-jar", "application/" + jar,
+        "--spring.profiles.active=local",
+        "--server.port=" + port,
+        "--warm-up.enabled=" + warmUp);
+
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+        .directory(dir.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    ExecutorService executor = Executors.newFixedThreadPool(clients);
+    try {
+      String baseUrl = "http://localhost:" + port;
+      awaitReady(baseUrl, process);
+      long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      seedUsers(baseUrl);
+
+      LatencyRecorder[] windows = new LatencyRecorder[(int) Math.ceil((double) duration.toMillis() / window.toMillis())];
+      for (int i = 0; i < windows.length; i++) {
+        windows[i] = new LatencyRecorder();
+      }
+      long loadStart = System.nanoTime();
+      long deadline = loadStart + duration.toNanos();
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < clients; i++) {
+        VirtualClient client = new VirtualClient(httpClient, objectMapper, baseUrl, VirtualClient.seededEmail(i), clients);
+        futures.add(executor.submit(() -> {
+          long now;
+          while ((now = System.nanoTime()) < deadline) {
+            Endpoint endpoint = ThreadLocalRandom.current().nextDouble() < loginRatio ? Endpoint.LOGIN : Endpoint.ME;
+            client.execute(endpoint, windows[(int) ((now - loadStart) / window.toNanos())]);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      print(mode, readyMillis, windows);
+    } finally {
+      executor.shutdownNow();
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  private void awaitReady(String baseUrl, Process process) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+        .timeout(Duration.ofSeconds(1))
+        .GET()
+        .build();
+    long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("[FirstMinute] 애플리케이션이 기동 중 종료되었습니다. exit=" + process.exitValue());
+      }
+      try {
+        if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // 아직 포트가 열리지 않음
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("[FirstMinute] " + READY_TIMEOUT.toSeconds() + "초 안에 준비되지 않았습니다.");
+  }
+
+  /**
+   * 클라이언트별 전용 사용자 가입 (두 모드 모두 같은 가입 요청을 거친 뒤 측정을 시작한다)
+   */
+  private void seedUsers(String baseUrl) throws IOException, InterruptedException {
+    for (int i = 0; i < clients; i++) {
+      String body = "{\"email\":\"" + VirtualClient.seededEmail(i) + "\",\"password\":\"" + VirtualClient.PASSWORD
+          + "\",\"name\":\"Loadtester\"}";
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/signUp"))
+          .timeout(Duration.ofSeconds(30))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+          .build();
+      int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      if (status >= 300) {
+        throw new IllegalStateException("[FirstMinute] 사용자 가입 실패 status=" + status);
+      }
+    }
+  }
+
+  private void print(String mode, long readyMillis, LatencyRecorder[] windows) {
+    System.out.printf("%n[FirstMinute] mode=%s, ready=%dms, clients=%d, login-ratio=%.2f%n",
+        mode, readyMillis, clients, loginRatio);
+    System.out.printf("%-10s %-6s %9s %8s %9s %9s %9s%n", "window", "api", "count", "errors", "p50(ms)", "p99(ms)",
+        "max(ms)");
+    for (int i = 0; i < windows.length; i++) {
+      String label = (i * window.toSeconds()) + "-" + ((i + 1) * window.toSeconds()) + "s";
+      for (Endpoint endpoint : List.of(Endpoint.LOGIN, Endpoint.ME)) {
+        Histogram histogram = windows[i].histogram(endpoint);
+        System.out.printf("%-10s %-6s %9d %8d %9.2f %9.2f %9.2f%n", label, endpoint.key,
+            histogram.getTotalCount(), windows[i].errorCount(endpoint),
+            histogram.getValueAtPercentile(50.0) / 1000.0, histogram.getValueAtPercentile(99.0) / 1000.0,
+            histogram.getMaxValue() / 1000.0);
+      }
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.example.template.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간(마이크로초) 히스토그램과 오류 수, 응답 바디 바이트 수, 304 수 집계
+ */
+final class LatencyRecorder {
+
+  private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+  private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+  private final Map<Endpoint, LongAdder> transportFailures = new EnumMap<>(Endpoint.class);
+  private final Map<Endpoint, LongAdder> bodyBytes = new EnumMap<>(Endpoint.class);
+  private final Map<Endpoint, LongAdder> notModified = new EnumMap<>(Endpoint.class);
+
+  LatencyRecorder() {
+    for (Endpoint endpoint : Endpoint.values()) {
+      histograms.put(endpoint, new ConcurrentHistogram(3));
+      errors.put(endpoint, new LongAdder());
+      transportFailures.put(endpoint, new LongAdder());
+      bodyBytes.put(endpoint, new LongAdder());
+      notModified.put(endpoint, new LongAdder());
+    }
+  }
+
+  void record(Endpoint endpoint, long elapsedNanos, boolean success) {
+    record(endpoint, elapsedNanos, success, 0, false);
+  }
+
+  void record(Endpoint endpoint, long elapsedNanos, boolean success, int responseBytes, boolean notModifiedResponse) {
+    histograms.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    bodyBytes.get(endpoint).add(responseBytes);
+    if (notModifiedResponse) {
+      notModified.get(endpoint).increment();
+    }
+    if (!success) {
+      errors.get(endpoint).increment();
+    }
+  }
+
+  /**
+   * 응답을 받지 못한 요청 (연결 실패, 타임아웃)
+   */
+  void recordTransportFailure(Endpoint endpoint) {
+    transportFailures.get(endpoint).increment();
+  }
+
+  Histogram histogram(Endpoint endpoint) {
+    return histograms.get(endpoint);
+  }
+
+  long errorCount(Endpoint endpoint) {
+    return errors.get(endpoint).sum() + transportFailures.get(endpoint).sum();
+  }
+
+  /**
+   * 워밍업 구간 기록 폐기
+   */
+  void reset() {
+    histograms.values().forEach(Histogram::reset);
+    errors.values().forEach(LongAdder::reset);
+    transportFailures.values().forEach(LongAdder::reset);
+    bodyBytes.values().forEach(LongAdder::reset);
+    notModified.values().forEach(LongAdder::reset);
+  }
+
+  String report(LoadTestSettings settings) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("%n[LoadTest] clients=%d, users=%d, duration=%ds%n",
+        settings.clients(), settings.users(), settings.duration().toSeconds()));
+    sb.append(String.format("%-28s %9s %8s %8s %9s %9s %9s %9s %9s %9s %10s %9s%n",
+        "endpoint", "count", "errors", "304", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)",
+        "bytes/req", "budget"));
+    double seconds = settings.duration().toMillis() / 1000.0;
+    for (Endpoint endpoint : Endpoint.values()) {
+      Histogram histogram = histograms.get(endpoint);
+      long count = histogram.getTotalCount();
+      long errorCount = errors.get(endpoint).sum() + transportFailures.get(endpoint).sum();
+      if (count == 0 && errorCount == 0) {
+        continue;
+      }
+      Long budget = settings.p99BudgetMs().get(endpoint);
+      sb.append(String.format("%-28s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %10.1f %9s%n",
+          endpoint.label, count, errorCount, notModified.get(endpoint).sum(), count / seconds,
+          millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0), millis(histogram, 99.9),
+          histogram.getMaxValue() / 1000.0, count == 0 ? 0.0 : (double) bodyBytes.get(endpoint).sum() / count,
+          budget == null ? "-" : budget));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * p99 허용치 초과, 오류 비율 초과 항목 목록 (비어 있으면 통과)
+   */
+  List<String> violations(LoadTestSettings settings) {
+    List<String> violations = new ArrayList<>();
+    for (Endpoint endpoint : Endpoint.values()) {
+      Histogram histogram = histograms.get(endpoint);
+      long count = histogram.getTotalCount();
+      long failed = transportFailures.get(endpoint).sum();
+      long errorCount = errors.get(endpoint).sum() + failed;
+      Long budget = settings.p99BudgetMs().get(endpoint);
+
+      if (budget != null && count > 0 && millis(histogram, 99.0) > budget) {
+        violations.add(String.format("%s p99 %.2fms > %dms", endpoint.key, millis(histogram, 99.0), budget));
+      }
+      long attempts = count + failed;
+      if (attempts > 0 && (double) errorCount / attempts > settings.maxErrorRate()) {
+        violations.add(String.format("%s 오류 %d/%d 건", endpoint.key, errorCount, attempts));
+      }
+    }
+    return violations;
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1000.0;
+  }
+}
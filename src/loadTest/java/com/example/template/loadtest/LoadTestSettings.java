@@ -0,0 +1,114 @@
+package com.example.template.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시스템 프로퍼티(loadtest.*)로 받는 부하 테스트 설정
+ * <p>
+ * - loadtest.users: 미리 가입시킬 사용자 수 (clients 이상, 클라이언트마다 전용 사용자를 써야 리프레시 토큰 회전이 충돌하지 않는다)
+ * - loadtest.clients: 동시 클라이언트 수
+ * - loadtest.warmup-seconds / loadtest.duration-seconds: 기록하지 않는 워밍업 시간 / 측정 시간
+ * - loadtest.mix: 엔드포인트별 가중치 (예: me=50,refresh=15,login=10)
+ * - loadtest.p99-budget-ms: 엔드포인트별 p99 허용치, default 는 나머지 엔드포인트에 적용
+ * - loadtest.max-error-rate: 허용 오류 비율 (2xx/304 가 아닌 응답/연결 실패)
+ * - loadtest.conditional-me: /me 를 마지막 ETag 와 If-None-Match 로 조건부 요청할지 여부
+ */
+record LoadTestSettings(
+    int users,
+    int clients,
+    Duration warmup,
+    Duration duration,
+    Map<Endpoint, Integer> mix,
+    Map<Endpoint, Long> p99BudgetMs,
+    double maxErrorRate,
+    boolean conditionalMe
+) {
+
+  private static final String DEFAULT_MIX = "me=50,refresh=15,login=10,check-email=15,sign-up=5,logout=5";
+  private static final String DEFAULT_BUDGET = "default=250,login=1000,sign-up=1000,refresh=1000";
+
+  LoadTestSettings {
+    if (users < clients) {
+      throw new IllegalArgumentException("[LoadTest] loadtest.users 는 loadtest.clients 이상이어야 합니다.");
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("[LoadTest] loadtest.mix 가 비어 있습니다.");
+    }
+  }
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.getInteger("loadtest.users", 200),
+        Integer.getInteger("loadtest.clients", 32),
+        Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5)),
+        Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30)),
+        parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+        parseBudget(System.getProperty("loadtest.p99-budget-ms", DEFAULT_BUDGET)),
+        Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+        Boolean.parseBoolean(System.getProperty("loadtest.conditional-me", "true"))
+    );
+  }
+
+  /**
+   * 가중치에 비례해 다음 요청 엔드포인트를 고른다
+   */
+  Endpoint nextEndpoint(ThreadLocalRandom random) {
+    int total = 0;
+    for (int weight : mix.values()) {
+      total += weight;
+    }
+    int pick = random.nextInt(total);
+    for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+      pick -= entry.getValue();
+      if (pick < 0) {
+        return entry.getKey();
+      }
+    }
+    throw new IllegalStateException("unreachable");
+  }
+
+  private static Map<Endpoint, Integer> parseMix(String value) {
+    Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    for (String[] pair : pairs(value)) {
+      int weight = Integer.parseInt(pair[1]);
+      if (weight > 0) {
+        mix.put(Endpoint.fromKey(pair[0]), weight);
+      }
+    }
+    return mix;
+  }
+
+  private static Map<Endpoint, Long> parseBudget(String value) {
+    Map<Endpoint, Long> budget = new EnumMap<>(Endpoint.class);
+    Long defaultBudget = null;
+    for (String[] pair : pairs(value)) {
+      if (pair[0].equals("default")) {
+        defaultBudget = Long.parseLong(pair[1]);
+      } else {
+        budget.put(Endpoint.fromKey(pair[0]), Long.parseLong(pair[1]));
+      }
+    }
+    if (defaultBudget != null) {
+      for (Endpoint endpoint : Endpoint.values()) {
+        budget.putIfAbsent(endpoint, defaultBudget);
+      }
+    }
+    return budget;
+  }
+
+  private static String[][] pairs(String value) {
+    String[] entries = value.split(",");
+    String[][] pairs = new String[entries.length][];
+    for (int i = 0; i < entries.length; i++) {
+      String[] pair = entries[i].trim().split("=", 2);
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("[LoadTest] key=value 형식이 아닙니다: " + entries[i]);
+      }
+      pairs[i] = new String[]{pair[0].trim(), pair[1].trim()};
+    }
+    return pairs;
+  }
+}
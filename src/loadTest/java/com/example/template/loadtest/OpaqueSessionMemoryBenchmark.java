@@ -0,0 +1,187 @@
+package com.example.template.loadtest;
+
+import com.example.template.global.security.session.OffHeapSessionTable;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 불투명 토큰 세션 N 개(기본 10,000,000)를 들고 있을 때의 GC/메모리 비용을 저장 방식별로 비교
+ * <p>
+ * - offheap: OffHeapSessionTable (security.opaque-token.enabled=true 에서 쓰는 구조)
+ * - onheap: ConcurrentHashMap&lt;Key(hi, lo), Session&gt; (같은 데이터를 힙 객체로 들고 있을 때의 기준선)
+ * <p>
+ * 모드마다 새 JVM 을 띄워(같은 -Xmx, -XX:MaxDirectMemorySize) 채우기 → churn(폐기 + 재발급) → System.gc() 순으로 측정한다
+ * - churn GC: churn 동안 발생한 GC 횟수/누적 시간 (GarbageCollectorMXBean 합계)
+ * - full GC: 세션을 모두 들고 있는 상태에서 System.gc() 한 번에 걸린 시간 (힙 객체 수에 비례)
+ * - heap / direct: full GC 직후 힙 사용량, direct 버퍼 풀 사용량 (heap 에는 두 모드 공통으로 키 배열 count * 16 바이트가 포함된다)
+ * <p>
+ * ./gradlew sessionMemoryBenchmark 로 실행하며 시스템 프로퍼티로 옵션을 받는다
+ * - sessions.count: 세션 수 (기본 10000000)
+ * - sessions.churn: 폐기 후 재발급 횟수 (기본 세션 수와 같음)
+ * - sessions.modes: 측정할 모드 (기본 offheap,onheap)
+ * - sessions.jvm-args: 모드별 JVM 옵션 (기본 -Xmx4g -XX:MaxDirectMemorySize=1g)
+ */
+public final class OpaqueSessionMemoryBenchmark {
+
+  private static final String MODE_PROPERTY = "sessions.mode";
+  private static final long NOW = 1_700_000_000L;
+  private static final long EXPIRES_AT = NOW + 1800;
+
+  private record Key(long hi, long lo) {
+  }
+
+  private record Session(long userId, int roleOrdinal, long expiresAtEpochSecond) {
+  }
+
+  /**
+   * 모드별 저장소 (측정 대상 외 비용을 줄이기 위해 최소 연산만)
+   */
+  private interface Store {
+
+    boolean put(long hi, long lo, long userId);
+
+    boolean remove(long hi, long lo);
+  }
+
+  public static void main(String[] args) throws Exception {
+    String mode = System.getProperty(MODE_PROPERTY);
+    if (mode != null) {
+      measure(mode, Integer.getInteger("sessions.count", 10_000_000),
+          Integer.getInteger("sessions.churn", Integer.getInteger("sessions.count", 10_000_000)));
+      return;
+    }
+
+    String[] modes = System.getProperty("sessions.modes", "offheap,onheap").split(",");
+    String jvmArgs = System.getProperty("sessions.jvm-args", "-Xmx4g -XX:MaxDirectMemorySize=1g");
+    System.out.printf("%n[Sessions] count=%s churn=%s jvm=%s%n",
+        System.getProperty("sessions.count", "10000000"),
+        System.getProperty("sessions.churn", "count"), jvmArgs);
+    System.out.printf("%-8s %10s %12s %12s %12s %12s %12s%n",
+        "mode", "fill(ms)", "churnGC(n)", "churnGC(ms)", "fullGC(ms)", "heap(MB)", "direct(MB)");
+    for (String each : modes) {
+      runChild(each.trim(), jvmArgs);
+    }
+  }
+
+  /**
+   * 모드마다 새 JVM 에서 측정 (앞 모드의 힙/버퍼가 다음 모드 결과에 섞이지 않게)
+   */
+  private static void runChild(String mode, String jvmArgs) throws Exception {
+    List<String> command = new ArrayList<>();
+    command.add(ProcessHandle.current().info().command().orElse("java"));
+    command.addAll(List.of(jvmArgs.trim().split("\\s+")));
+    for (String name : List.of("sessions.count", "sessions.churn")) {
+      String value = System.getProperty(name);
+      if (value != null) {
+        command.add("-D" + name + "=" + value);
+      }
+    }
+    command.add("-D" + MODE_PROPERTY + "=" + mode);
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(OpaqueSessionMemoryBenchmark.class.getName());
+    int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+    if (exitCode != 0) {
+      System.out.printf("%-8s 측정 실패 (exit=%d, -Xmx / -XX:MaxDirectMemorySize 확인)%n", mode, exitCode);
+    }
+  }
+
+  private static void measure(String mode, int count, int churn) {
+    Store store = switch (mode) {
+      case "offheap" -> offHeap(count);
+      case "onheap" -> onHeap(count);
+      default -> throw new IllegalArgumentException("알 수 없는 모드: " + mode);
+    };
+
+    // 채우기: 키는 무작위 128비트 (OpaqueTokenStore 와 같은 분포)
+    SplittableRandom random = new SplittableRandom(42);
+    long[] keys = new long[count * 2];
+    long fillStarted = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      keys[i * 2] = random.nextLong();
+      keys[i * 2 + 1] = random.nextLong();
+      store.put(keys[i * 2], keys[i * 2 + 1], i);
+    }
+    long fillMillis = (System.nanoTime() - fillStarted) / 1_000_000;
+
+    // churn: 무작위 세션 폐기 후 새 세션 발급 (로그아웃 + 로그인), 세션 수는 유지
+    long[] gcBefore = gcTotals();
+    for (int i = 0; i < churn; i++) {
+      int victim = random.nextInt(count);
+      store.remove(keys[victim * 2], keys[victim * 2 + 1]);
+      keys[victim * 2] = random.nextLong();
+      keys[victim * 2 + 1] = random.nextLong();
+      store.put(keys[victim * 2], keys[victim * 2 + 1], victim);
+    }
+    long[] gcAfter = gcTotals();
+
+    long fullGcStarted = System.nanoTime();
+    System.gc();
+    long fullGcMillis = (System.nanoTime() - fullGcStarted) / 1_000_000;
+    long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+    System.out.printf("%-8s %10d %12d %12d %12d %12d %12d%n", mode, fillMillis,
+        gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], fullGcMillis,
+        heapUsed >> 20, directUsed() >> 20);
+    // 측정이 끝날 때까지 저장소가 수거되지 않도록
+    Reference.reachabilityFence(store);
+  }
+
+  private static Store offHeap(int count) {
+    OffHeapSessionTable table = new OffHeapSessionTable(count);
+    return new Store() {
+      @Override
+      public boolean put(long hi, long lo, long userId) {
+        return table.put(hi, lo, userId, 0, EXPIRES_AT, NOW);
+      }
+
+      @Override
+      public boolean remove(long hi, long lo) {
+        return table.remove(hi, lo);
+      }
+    };
+  }
+
+  private static Store onHeap(int count) {
+    Map<Key, Session> map = new ConcurrentHashMap<>((int) (count / 0.75f) + 1);
+    return new Store() {
+      @Override
+      public boolean put(long hi, long lo, long userId) {
+        return map.put(new Key(hi, lo), new Session(userId, 0, EXPIRES_AT)) == null;
+      }
+
+      @Override
+      public boolean remove(long hi, long lo) {
+        return map.remove(new Key(hi, lo)) != null;
+      }
+    };
+  }
+
+  /**
+   * [GC 횟수 합계, GC 누적 시간(ms) 합계]
+   */
+  private static long[] gcTotals() {
+    long count = 0;
+    long millis = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, gc.getCollectionCount());
+      millis += Math.max(0, gc.getCollectionTime());
+    }
+    return new long[] {count, millis};
+  }
+
+  private static long directUsed() {
+    return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+        .filter(pool -> "direct".equals(pool.getName()))
+        .mapToLong(BufferPoolMXBean::getMemoryUsed)
+        .sum();
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.template.loadtest;
+
+import com.example.template.domain.user.dto.SignUpRequestDto;
+import com.example.template.domain.user.service.AuthService;
+import com.example.template.global.monitoring.ConnectionPoolAdvisor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 2개짜리 풀에 로그인 요청을 몰아 보내 풀 고갈이 hikaricp.* 메트릭과 ConnectionPoolAdvisor 에 어떻게 드러나는지 확인
+ * 로그인 트랜잭션은 BCrypt 비교 동안 커넥션을 쥐고 있으므로, 클라이언트 수가 풀 크기를 넘으면 획득 대기(acquire)가 사용 시간(usage)보다 길어진다
+ * <p>
+ * - loadtest.storm-clients: 동시 로그인 클라이언트 수 (기본 16)
+ * - loadtest.storm-seconds: 측정 시간 (기본 10)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.minimum-idle=2",
+    "monitoring.pool-advisor.interval=1h"
+})
+@ActiveProfiles("test")
+class PoolStarvationLoadTest {
+
+  private static final String POOL = "primary";
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AuthService authService;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  @Autowired
+  private ConnectionPoolAdvisor connectionPoolAdvisor;
+
+  @Test
+  @DisplayName("로그인 폭주 - 풀 고갈 시 대기 시간이 사용 시간을 넘고 advisor 가 더 큰 풀을 권장한다")
+  void loginStorm_exposesPoolStarvation() throws Exception {
+    // given
+    int clients = Integer.getInteger("loadtest.storm-clients", 16);
+    Duration duration = Duration.ofSeconds(Long.getLong("loadtest.storm-seconds", 10));
+    ExecutorService executor = Executors.newFixedThreadPool(clients);
+    for (int i = 0; i < clients; i++) {
+      authService.signUp(new SignUpRequestDto(VirtualClient.seededEmail(i), VirtualClient.PASSWORD, "Loadtester"));
+    }
+
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    String baseUrl = "http://localhost:" + port;
+    LatencyRecorder recorder = new LatencyRecorder();
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicInteger maxPending = new AtomicInteger();
+    ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    sampler.scheduleAtFixedRate(() -> maxPending.accumulateAndGet(
+        (int) meterRegistry.get("hikaricp.connections.pending").tag("pool", POOL).gauge().value(), Math::max),
+        0, 50, TimeUnit.MILLISECONDS);
+    connectionPoolAdvisor.advise();
+    TimerSnapshot acquireBefore = TimerSnapshot.of(timer("hikaricp.connections.acquire"));
+    TimerSnapshot usageBefore = TimerSnapshot.of(timer("hikaricp.connections.usage"));
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < clients; i++) {
+      VirtualClient client = new VirtualClient(httpClient, objectMapper, baseUrl, VirtualClient.seededEmail(i), clients);
+      futures.add(executor.submit(() -> {
+        while (running.get()) {
+          client.execute(Endpoint.LOGIN, recorder);
+        }
+      }));
+    }
+    Thread.sleep(duration.toMillis());
+    running.set(false);
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    sampler.shutdown();
+
+    // then
+    double acquireMeanMs = TimerSnapshot.of(timer("hikaricp.connections.acquire")).meanMsSince(acquireBefore);
+    double usageMeanMs = TimerSnapshot.of(timer("hikaricp.connections.usage")).meanMsSince(usageBefore);
+    ConnectionPoolAdvisor.Advice advice = connectionPoolAdvisor.advise().stream()
+        .filter(a -> a.pool().equals(POOL))
+        .findFirst()
+        .orElseThrow();
+
+    System.out.printf("%n[PoolStarvation] clients=%d, pool max=%d, duration=%ds%n",
+        clients, advice.currentMax(), duration.toSeconds());
+    System.out.printf("acquire mean=%.2fms, usage mean=%.2fms, max pending=%d, timeouts=%d%n",
+        acquireMeanMs, usageMeanMs, maxPending.get(), advice.timeouts());
+    System.out.printf("advisor: starving=%s, recommended=%d%n", advice.starving(), advice.recommendedSize());
+    System.out.println(recorder.report(new LoadTestSettings(clients, clients, Duration.ZERO, duration,
+        Map.of(Endpoint.LOGIN, 1), Map.of(), 1.0, false)));
+
+    assertThat(maxPending.get()).isPositive();
+    assertThat(acquireMeanMs).isGreaterThan(usageMeanMs);
+    assertThat(advice.starving()).isTrue();
+    assertThat(advice.recommendedSize()).isGreaterThan(advice.currentMax());
+  }
+
+  private Timer timer(String name) {
+    return meterRegistry.get(name).tag("pool", POOL).timer();
+  }
+
+  private record TimerSnapshot(long count, double totalMs) {
+
+    static TimerSnapshot of(Timer timer) {
+      return new TimerSnapshot(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    double meanMsSince(TimerSnapshot before) {
+      long count = this.count - before.count;
+      return count == 0 ? 0 : (totalMs - before.totalMs) / count;
+    }
+  }
+}
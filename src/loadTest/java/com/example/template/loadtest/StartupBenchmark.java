@@ -0,0 +1,209 @@
+package com.example.template.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 추출한 부트 jar 를 모드별로 여러 번 띄워 time-to-ready(프로세스 시작 ~ /actuator/health 200)와 그 시점 RSS, 힙 사용량을 측정
+ * <p>
+ * - default: local 프로필, 런타임 springdoc 스캔 끔 (빌드 시 생성한 정적 문서만 제공)
+ * - springdoc: local 프로필, 런타임 springdoc 스캔 켬
+ * - optimized: local,startup 프로필 + CDS 아카이브(-XX:SharedArchiveFile)
+ * <p>
+ * 준비 직후 GC(jcmd GC.run)를 한 번 실행한 뒤 jvm_memory_used_bytes{area="heap"} 합계를 힙 사용량으로 기록한다
+ * <p>
+ * ./gradlew startupBenchmark 로 실행하며 시스템 프로퍼티로 옵션을 받는다
+ * - startup.dir: cdsExtract/cdsTrain 결과 디렉터리 (application/*.jar, application.jsa)
+ * - startup.jar: 추출된 애플리케이션 jar 파일명
+ * - startup.java: 측정에 사용할 java 실행 파일
+ * - startup.runs: 모드별 반복 횟수 (기본 5)
+ * - startup.modes: 측정할 모드 (기본 default,springdoc,optimized)
+ */
+public final class StartupBenchmark {
+
+  private static final Duration READY_TIMEOUT = Duration.ofSeconds(120);
+  private static final Pattern HEAP_USED = Pattern.compile("^jvm_memory_used_bytes\\{[^}]*area=\"heap\"[^}]*}\\s+(\\S+)$");
+
+  private final Path dir;
+  private final String jar;
+  private final String java;
+  private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+  private StartupBenchmark(Path dir, String jar, String java) {
+    this.dir = dir;
+    this.jar = jar;
+    this.java = java;
+  }
+
+  public static void main(String[] args) throws Exception {
+    StartupBenchmark benchmark = new StartupBenchmark(
+        Path.of(System.getProperty("startup.dir")),
+        System.getProperty("startup.jar"),
+        System.getProperty("startup.java", "java"));
+    int runs = Integer.getInteger("startup.runs", 5);
+    List<Mode> modes = Arrays.stream(System.getProperty("startup.modes", "default,springdoc,optimized").split(","))
+        .map(name -> Mode.valueOf(name.trim().toUpperCase(Locale.ROOT)))
+        .toList();
+
+    Map<Mode, List<Sample>> samples = new EnumMap<>(Mode.class);
+    for (int i = 0; i < runs; i++) {
+      // 모드를 번갈아 실행해 디스크 캐시/CPU 상태 차이가 한쪽에 몰리지 않게 한다
+      for (Mode mode : modes) {
+        samples.computeIfAbsent(mode, m -> new ArrayList<>()).add(benchmark.measure(mode));
+      }
+    }
+
+    System.out.printf("%n[Startup] runs=%d%n", runs);
+    System.out.printf("%-10s %14s %14s %14s %14s %14s%n",
+        "mode", "ready p50(ms)", "ready min(ms)", "ready max(ms)", "RSS p50(MB)", "heap p50(MB)");
+    samples.forEach((mode, values) -> print(mode.name().toLowerCase(Locale.ROOT), values));
+  }
+
+  /**
+   * 측정 모드별 JVM 옵션과 애플리케이션 인자
+   */
+  private enum Mode {
+    DEFAULT(List.of(), List.of("--spring.profiles.active=local", "--springdoc.api-docs.enabled=false",
+        "--springdoc.swagger-ui.enabled=false")),
+    SPRINGDOC(List.of(), List.of("--spring.profiles.active=local", "--springdoc.api-docs.enabled=true")),
+    OPTIMIZED(List.of("-XX:SharedArchiveFile=application.jsa", "-Xlog:cds=off"),
+        List.of("--spring.profiles.active=local,startup"));
+
+    final List<String> jvmOptions;
+    final List<String> args;
+
+    Mode(List<String> jvmOptions, List<String> args) {
+      this.jvmOptions = jvmOptions;
+      this.args = args;
+    }
+  }
+
+  private Sample measure(Mode mode) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    command.add(java);
+    command.addAll(mode.jvmOptions);
+    command.add("-jar");
+    command.add("application/" + jar);
+    command.addAll(mode.args);
+    command.add("--server.port=" + port);
+
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+        .directory(dir.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    try {
+      awaitReady(port, process);
+      long readyMillis = (System.nanoTime() - start) / 1_000_000;
+      long rssKilobytes = rssKilobytes(process.pid());
+      return new Sample(readyMillis, rssKilobytes, heapUsedAfterGc(port, process.pid()));
+    } finally {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  private void awaitReady(int port, Process process) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+        .timeout(Duration.ofSeconds(1))
+        .GET()
+        .build();
+    long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("[Startup] 애플리케이션이 기동 중 종료되었습니다. exit=" + process.exitValue());
+      }
+      try {
+        if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // 아직 포트가 열리지 않음
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("[Startup] " + READY_TIMEOUT.toSeconds() + "초 안에 준비되지 않았습니다.");
+  }
+
+  /**
+   * jcmd GC.run 으로 가비지를 걷어낸 뒤 /actuator/prometheus 의 힙 영역 사용량 합계 (jcmd 가 없으면 GC 없이 측정)
+   */
+  private long heapUsedAfterGc(int port, long pid) throws IOException, InterruptedException {
+    Path jcmd = Path.of(java).resolveSibling("jcmd");
+    if (Files.isExecutable(jcmd)) {
+      Process gc = new ProcessBuilder(jcmd.toString(), String.valueOf(pid), "GC.run")
+          .redirectErrorStream(true)
+          .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+          .start();
+      gc.waitFor(30, TimeUnit.SECONDS);
+    }
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus"))
+        .timeout(Duration.ofSeconds(5))
+        .GET()
+        .build();
+    double used = 0;
+    for (String line : httpClient.send(request, HttpResponse.BodyHandlers.ofLines()).body().toList()) {
+      Matcher matcher = HEAP_USED.matcher(line);
+      if (matcher.matches()) {
+        used += Double.parseDouble(matcher.group(1));
+      }
+    }
+    return (long) used;
+  }
+
+  /**
+   * /proc/{pid}/status 의 VmRSS (리눅스 외 환경은 -1)
+   */
+  private static long rssKilobytes(long pid) throws IOException {
+    Path status = Path.of("/proc", String.valueOf(pid), "status");
+    if (!Files.exists(status)) {
+      return -1;
+    }
+    for (String line : Files.readAllLines(status)) {
+      if (line.startsWith("VmRSS:")) {
+        return Long.parseLong(line.replaceAll("\\D+", ""));
+      }
+    }
+    return -1;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static void print(String mode, List<Sample> samples) {
+    List<Long> ready = new ArrayList<>(samples.stream().map(Sample::readyMillis).toList());
+    List<Long> rss = new ArrayList<>(samples.stream().map(Sample::rssKilobytes).toList());
+    List<Long> heap = new ArrayList<>(samples.stream().map(Sample::heapUsedBytes).toList());
+    Collections.sort(ready);
+    Collections.sort(rss);
+    Collections.sort(heap);
+    System.out.printf("%-10s %14d %14d %14d %14.1f %14.1f%n", mode,
+        ready.get(ready.size() / 2), ready.get(0), ready.get(ready.size() - 1), rss.get(rss.size() / 2) / 1024.0,
+        heap.get(heap.size() / 2) / (1024.0 * 1024.0));
+  }
+
+  private record Sample(long readyMillis, long rssKilobytes, long heapUsedBytes) {
+  }
+}
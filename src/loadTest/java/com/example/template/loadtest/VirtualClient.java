@@ -0,0 +1,156 @@
+package com.example.template.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전용 사용자 1명으로 로그인 상태(access/refresh 토큰)를 유지하며 요청을 보내는 가상 클라이언트
+ * 토큰이 없는 상태에서 인증이 필요한 엔드포인트가 뽑히면 로그인부터 수행한다
+ * conditionalMe 면 SPA 처럼 /me 응답의 ETag 를 보관했다가 If-None-Match 로 보낸다
+ */
+final class VirtualClient {
+
+  static final String PASSWORD = "Password123!";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final AtomicLong SIGN_UP_SEQUENCE = new AtomicLong();
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final String baseUrl;
+  private final String email;
+  private final int seededUsers;
+  private final boolean conditionalMe;
+
+  private String accessToken;
+  private String refreshToken;
+  private String meETag;
+
+  VirtualClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String email, int seededUsers) {
+    this(httpClient, objectMapper, baseUrl, email, seededUsers, false);
+  }
+
+  VirtualClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String email, int seededUsers,
+      boolean conditionalMe) {
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.baseUrl = baseUrl;
+    this.email = email;
+    this.seededUsers = seededUsers;
+    this.conditionalMe = conditionalMe;
+  }
+
+  static String seededEmail(int index) {
+    return "user" + index + "@load.test";
+  }
+
+  void execute(Endpoint requested, LatencyRecorder recorder) {
+    Endpoint endpoint = requested.requiresLogin && accessToken == null ? Endpoint.LOGIN : requested;
+    HttpRequest request = buildRequest(endpoint);
+
+    long start = System.nanoTime();
+    HttpResponse<byte[]> response;
+    try {
+      response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    } catch (IOException e) {
+      recorder.recordTransportFailure(endpoint);
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    long elapsed = System.nanoTime() - start;
+
+    int status = response.statusCode();
+    boolean notModified = status == 304;
+    recorder.record(endpoint, elapsed, (status >= 200 && status < 300) || notModified,
+        response.body().length, notModified);
+    onResponse(endpoint, status, response);
+  }
+
+  private HttpRequest buildRequest(Endpoint endpoint) {
+    return switch (endpoint) {
+      case SIGN_UP -> post("/api/auth/signUp", json(
+          "email", "new" + SIGN_UP_SEQUENCE.incrementAndGet() + "-" + System.nanoTime() + "@load.test",
+          "password", PASSWORD,
+          "name", "Loadtester")).build();
+      case LOGIN -> post("/api/auth/login", json("email", email, "password", PASSWORD)).build();
+      case REFRESH -> post("/api/auth/refresh", HttpRequest.BodyPublishers.noBody())
+          .header("refreshToken", refreshToken)
+          .build();
+      case LOGOUT -> post("/api/auth/logout", HttpRequest.BodyPublishers.noBody())
+          .header("Authorization", "Bearer " + accessToken)
+          .build();
+      case CHECK_EMAIL -> get("/api/auth/check-email?email="
+          + URLEncoder.encode(seededEmail(ThreadLocalRandom.current().nextInt(seededUsers)), StandardCharsets.UTF_8))
+          .build();
+      case ME -> {
+        HttpRequest.Builder builder = get("/api/user/me")
+            .header("Authorization", "Bearer " + accessToken);
+        if (conditionalMe && meETag != null) {
+          builder.header("If-None-Match", meETag);
+        }
+        yield builder.build();
+      }
+    };
+  }
+
+  /**
+   * 로그인/재발급은 새 토큰을 보관하고, 로그아웃 또는 인증 실패 시 토큰을 버려 다음 요청에서 다시 로그인한다
+   */
+  private void onResponse(Endpoint endpoint, int status, HttpResponse<byte[]> response) {
+    if (endpoint == Endpoint.ME && status == 200) {
+      meETag = response.headers().firstValue("ETag").orElse(null);
+    }
+    if ((endpoint == Endpoint.LOGIN || endpoint == Endpoint.REFRESH) && status == 200) {
+      try {
+        JsonNode data = objectMapper.readTree(response.body()).path("data");
+        accessToken = data.path("accessToken").asText();
+        refreshToken = data.path("refreshToken").asText();
+      } catch (IOException e) {
+        clearTokens();
+      }
+    } else if (endpoint == Endpoint.LOGOUT || (endpoint.requiresLogin && status == 401)) {
+      clearTokens();
+    }
+  }
+
+  private void clearTokens() {
+    accessToken = null;
+    refreshToken = null;
+  }
+
+  private HttpRequest.Builder post(String path, HttpRequest.BodyPublisher body) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .POST(body);
+  }
+
+  private HttpRequest.Builder get(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .GET();
+  }
+
+  private HttpRequest.BodyPublisher json(String... keyValues) {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < keyValues.length; i += 2) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append('"').append(keyValues[i]).append("\":\"").append(keyValues[i + 1]).append('"');
+    }
+    return HttpRequest.BodyPublishers.ofString(sb.append('}').toString(), StandardCharsets.UTF_8);
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.template;
 
+import com.example.template.global.monitoring.StartupTracing;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -9,7 +10,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 public class MvcTemplateApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(MvcTemplateApplication.class, args);
+        SpringApplication application = new SpringApplication(MvcTemplateApplication.class);
+        StartupTracing.configure(application, args);
+        application.run(args);
     }
 
 }
@@ -9,6 +9,7 @@ import com.example.template.global.common.exception.ErrorMessage;
 import com.example.template.global.common.util.ApiResult;
 import com.example.template.global.common.util.CookieUtil;
 import com.example.template.global.security.UserPrincipal;
+import com.example.template.global.security.service.JwtAuthenticationFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -34,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
   private final AuthService authService;
+  private final CookieUtil cookieUtil;
 
   @Operation(summary = "회원 가입", description = "새로운 사용자를 등록합니다.")
   @ApiResponses({
@@ -56,7 +58,8 @@ public class AuthController {
       @ApiResponse(responseCode = "200", description = "로그인 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TokenResponseDto.class))),
       @ApiResponse(responseCode = "400", description = "요청 값 검증 실패 또는 이메일/비밀번호 불일치", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
       @ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
-      @ApiResponse(responseCode = "500", description = "알 수 없는 서버 오류가 발생했습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class)))
+      @ApiResponse(responseCode = "500", description = "알 수 없는 서버 오류가 발생했습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "503", description = ErrorMessage.SESSION_CAPACITY_EXCEEDED, content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class)))
   })
   @PostMapping("/login")
   public ResponseEntity<ApiResult<TokenResponseDto>> login(
@@ -82,12 +85,12 @@ public class AuthController {
 
     String refreshToken = refreshTokenHeader;
     if (refreshToken == null || refreshToken.isBlank()) {
-      refreshToken = CookieUtil.getCookieValue(request, "refreshToken");
+      refreshToken = cookieUtil.getCookieValue(request, CookieUtil.REFRESH_TOKEN);
     }
 
     if (refreshToken == null || refreshToken.isBlank()) {
       return ResponseEntity.badRequest()
-          .body(ApiResult.fail(400, "리프레시 토큰이 없습니다."));
+          .body(ApiResult.fail(400, ErrorMessage.MISSING_REFRESH_TOKEN));
     }
 
     TokenResponseDto tokenResponse = authService.refreshToken(refreshToken);
@@ -103,12 +106,14 @@ public class AuthController {
   })
   @PostMapping("/logout")
   public ResponseEntity<Void> logout(
-      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      HttpServletRequest request) {
 
-    authService.logout(userPrincipal.getUserId());
+    authService.logout(userPrincipal.getUserId(),
+        JwtAuthenticationFilter.resolveAccessToken(request, cookieUtil));
 
     return ResponseEntity.noContent()
-        .headers(CookieUtil.cleanCookies())
+        .headers(cookieUtil.cleanCookies())
         .build();
   }
 
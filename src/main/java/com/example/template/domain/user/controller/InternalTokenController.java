@@ -0,0 +1,49 @@
+package com.example.template.domain.user.controller;
+
+import com.example.template.domain.user.dto.TokenIntrospectionRequestDto;
+import com.example.template.domain.user.dto.TokenIntrospectionResponseDto;
+import com.example.template.global.common.util.ApiResult;
+import com.example.template.global.security.service.TokenIntrospector;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 내부 서비스 전용 토큰 API (X-Service-Key 인증, ServiceAuthenticationFilter)
+ */
+@RestController
+@RequestMapping("/internal/tokens")
+@RequiredArgsConstructor
+@Tag(name = "내부 - 토큰", description = "내부 서비스 전용 토큰 API")
+public class InternalTokenController {
+
+  private final TokenIntrospector tokenIntrospector;
+
+  @Operation(summary = "토큰 일괄 검사", description = "액세스 토큰 목록을 받아 토큰마다 유효 여부, 사용자 ID, 권한, 만료 시각을 요청 순서대로 반환합니다. 유효한 결과는 토큰 만료 시각까지 캐시됩니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "토큰 검사 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TokenIntrospectionResponseDto.class))),
+      @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "401", description = "인증이 필요합니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "500", description = "알 수 없는 서버 오류가 발생했습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class)))
+  })
+  @PostMapping("/introspect")
+  public ResponseEntity<ApiResult<List<TokenIntrospectionResponseDto>>> introspect(
+      @Valid @RequestBody TokenIntrospectionRequestDto request) {
+    List<TokenIntrospectionResponseDto> results = tokenIntrospector.introspect(request.tokens()).stream()
+        .map(TokenIntrospectionResponseDto::from)
+        .toList();
+    return ResponseEntity.ok(ApiResult.success(results));
+  }
+}
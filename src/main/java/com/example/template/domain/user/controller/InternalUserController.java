@@ -0,0 +1,46 @@
+package com.example.template.domain.user.controller;
+
+import com.example.template.domain.user.dto.UserBatchRequestDto;
+import com.example.template.domain.user.dto.UserResponseDto;
+import com.example.template.domain.user.service.UserService;
+import com.example.template.global.common.util.ApiResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 내부 서비스 전용 API (X-Service-Key 인증, ServiceAuthenticationFilter)
+ */
+@RestController
+@RequestMapping("/internal/users")
+@RequiredArgsConstructor
+@Tag(name = "내부 - 회원", description = "내부 서비스 전용 회원 API")
+public class InternalUserController {
+
+  private final UserService userService;
+
+  @Operation(summary = "사용자 일괄 조회", description = "사용자 ID 목록을 받아 요청 순서대로 사용자 정보를 반환합니다. 중복 ID 는 한 번만, 없는 ID 는 제외하고 반환합니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "사용자 일괄 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserResponseDto.class))),
+      @ApiResponse(responseCode = "400", description = "요청 값 검증 실패", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "401", description = "인증이 필요합니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "500", description = "알 수 없는 서버 오류가 발생했습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class)))
+  })
+  @PostMapping("/batch")
+  public ResponseEntity<ApiResult<List<UserResponseDto>>> findUsers(
+      @Valid @RequestBody UserBatchRequestDto request) {
+    return ResponseEntity.ok(ApiResult.success(userService.findUsers(request.userIds())));
+  }
+}
@@ -12,11 +12,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/user")
@@ -24,17 +27,31 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "회원", description = "회원 관련 API")
 public class UserController {
 
+    /**
+     * 브라우저가 응답을 저장하되 매번 ETag 로 재검증하게 한다 (시큐리티 기본값 no-store 대체)
+     */
+    private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
 
     @GetMapping("/me")
-    @Operation(summary = "본인 정보 조회", description = "로그인 한 유저의 정보를 반환합니다.")
+    @Operation(summary = "본인 정보 조회", description = "로그인 한 유저의 정보를 반환합니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 본문 없이 304 를 반환합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "본인 정보 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
         @ApiResponse(responseCode = "401", description = "인증이 필요합니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
         @ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
         @ApiResponse(responseCode = "500", description = "알 수 없는 서버 오류가 발생했습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class)))
     })
-    public ResponseEntity<ApiResult<UserResponseDto>> findme(@AuthenticationPrincipal UserPrincipal userPrincipal){
-        return ResponseEntity.ok(ApiResult.success(userService.findMe(userPrincipal.getUserId())));
+    public ResponseEntity<ApiResult<UserResponseDto>> findme(@AuthenticationPrincipal UserPrincipal userPrincipal, WebRequest webRequest){
+        // ETag 를 먼저 비교해 변경이 없으면 User 조회/직렬화 없이 304
+        String eTag = userService.findMeETag(userPrincipal.getUserId());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(ME_CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(ME_CACHE_CONTROL)
+            .body(ApiResult.success(userService.findMe(userPrincipal.getUserId())));
     }
 }
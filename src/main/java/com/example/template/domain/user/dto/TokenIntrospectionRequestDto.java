@@ -0,0 +1,19 @@
+package com.example.template.domain.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "토큰 일괄 검사 요청 DTO (내부 서비스 전용)")
+public record TokenIntrospectionRequestDto(
+    @Schema(description = "검사할 액세스 토큰 목록 (최대 " + TokenIntrospectionRequestDto.MAX_TOKENS + "개)", example = "[\"eyJhbGciOiJIUzI1NiJ9.access-token-payload\"]")
+    @NotEmpty(message = "토큰 목록은 필수 입력 값입니다.")
+    @Size(max = TokenIntrospectionRequestDto.MAX_TOKENS, message = "토큰은 한 번에 " + TokenIntrospectionRequestDto.MAX_TOKENS + "개까지 검사할 수 있습니다.")
+    List<@NotBlank(message = "토큰에 빈 값을 넣을 수 없습니다.") String> tokens
+) {
+
+  public static final int MAX_TOKENS = 10_000;
+}
@@ -0,0 +1,29 @@
+package com.example.template.domain.user.dto;
+
+import com.example.template.global.security.service.TokenIntrospection;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "토큰 검사 결과 DTO (요청 순서와 같은 순서)")
+public record TokenIntrospectionResponseDto(
+    @Schema(description = "서명/만료 검증 통과 여부", example = "true")
+    boolean active,
+
+    @Schema(description = "사용자 ID", example = "1", nullable = true)
+    Long userId,
+
+    @Schema(description = "권한", example = "GENERAL", nullable = true)
+    String role,
+
+    @Schema(description = "만료 시각 (epoch 초)", example = "1767225600", nullable = true)
+    Long exp
+) {
+
+  public static TokenIntrospectionResponseDto from(TokenIntrospection introspection) {
+    return new TokenIntrospectionResponseDto(
+        introspection.active(),
+        introspection.userId(),
+        introspection.role(),
+        introspection.expiresAt() == null ? null : introspection.expiresAt().getEpochSecond()
+    );
+  }
+}
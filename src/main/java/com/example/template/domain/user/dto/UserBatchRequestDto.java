@@ -0,0 +1,19 @@
+package com.example.template.domain.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "사용자 일괄 조회 요청 DTO (내부 서비스 전용)")
+public record UserBatchRequestDto(
+    @Schema(description = "조회할 사용자 ID 목록 (최대 " + UserBatchRequestDto.MAX_USER_IDS + "개)", example = "[1025, 2049, 1]")
+    @NotEmpty(message = "사용자 ID 목록은 필수 입력 값입니다.")
+    @Size(max = UserBatchRequestDto.MAX_USER_IDS, message = "사용자 ID 는 한 번에 " + UserBatchRequestDto.MAX_USER_IDS + "개까지 조회할 수 있습니다.")
+    List<@NotNull(message = "사용자 ID 에 null 을 넣을 수 없습니다.") Long> userIds
+) {
+
+  public static final int MAX_USER_IDS = 500;
+}
@@ -1,21 +1,48 @@
 package com.example.template.domain.user.entity;
 
+import com.example.template.domain.user.repository.UserVersionListener;
 import com.example.template.global.common.entity.BaseEntity;
 import com.example.template.global.common.entity.Role;
+import com.example.template.global.datasource.ShardedIdGenerator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserVersionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
+
+    /**
+     * 2차 캐시 리전 (src/main/resources/application.conf 에서 크기/만료 설정)
+     */
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-email";
+
+    /**
+     * 샤딩을 켜지 않으면 IDENTITY, 켜면 하위 비트에 소유 샤드 번호를 담은 id (ShardedIdGenerator, ShardIds 참고)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ShardedIdGenerator.NAME)
+    @GenericGenerator(name = ShardedIdGenerator.NAME, type = ShardedIdGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "users_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "1")
+    })
     private Long userId;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -36,6 +63,9 @@ public class User extends BaseEntity {
 
     public void changeRole(Role role){this.role=role;}
 
+    /**
+     * 샤딩 모드(datasource.shards.enabled=true)에서는 이메일이 샤드 키라 flush 시 거부된다 (ShardKeyGuardInterceptor)
+     */
     public void changeEmail(String email){this.email=email;}
 
 }
@@ -0,0 +1,16 @@
+package com.example.template.domain.user.repository;
+
+import com.example.template.domain.user.entity.User;
+
+import java.util.List;
+
+/**
+ * 여러 id 일괄 조회, 영속성 컨텍스트/2차 캐시에 있는 사용자는 쿼리 없이 채우고 나머지만 IN 쿼리로 읽는다
+ */
+public interface UserBatchRepository {
+
+    /**
+     * 입력 순서대로 반환하며 없는 id 는 건너뛴다 (한 번에 한 샤드의 id 만 전달해야 한다)
+     */
+    List<User> findAllByUserIdIn(List<Long> userIds);
+}
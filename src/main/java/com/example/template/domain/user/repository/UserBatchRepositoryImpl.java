@@ -0,0 +1,34 @@
+package com.example.template.domain.user.repository;
+
+import com.example.template.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    /**
+     * IN 절 하나에 넣을 최대 id 수 (넘으면 여러 쿼리로 나눈다)
+     */
+    static final int IN_CHUNK_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByUserIdIn(List<Long> userIds) {
+        // multiLoad 는 영속성 컨텍스트 → user 리전 순으로 찾고, 미스만 IN_CHUNK_SIZE 단위 IN 쿼리로 읽어 입력 순서대로 돌려준다
+        return entityManager.unwrap(Session.class)
+            .byMultipleIds(User.class)
+            .withBatchSize(IN_CHUNK_SIZE)
+            .multiLoad(userIds)
+            .stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.template.domain.user.repository;
+
+import com.example.template.domain.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 이메일(natural id) 기반 조회, JPQL 대신 natural id 로 조회해 영속성 컨텍스트/2차 캐시를 활용한다
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,24 @@
+package com.example.template.domain.user.repository;
+
+import com.example.template.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        // 같은 트랜잭션에서 재조회하면 영속성 컨텍스트에서, 이후 요청은 user-email 리전에서 id 를 찾는다
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(email);
+    }
+}
@@ -2,13 +2,21 @@ package com.example.template.domain.user.repository;
 
 import com.example.template.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository, UserBatchRepository {
 
     boolean existsByEmail(String email);
+
+    /**
+     * ETag 계산용 수정 시각만 조회 (UserVersionCache)
+     */
+    @Query("select u.modifiedAt from User u where u.userId = :userId")
+    Optional<LocalDateTime> findModifiedAtByUserId(@Param("userId") Long userId);
 }
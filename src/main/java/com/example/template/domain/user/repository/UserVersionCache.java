@@ -0,0 +1,67 @@
+package com.example.template.domain.user.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * userId -> 본인 정보 응답의 ETag 캐시
+ * <p>
+ * ETag 는 userId 와 modifiedAt 으로 만들어 조건부 GET(If-None-Match) 비교에 User 전체를 읽지 않는다
+ * 캐시에 없으면 modifiedAt 한 컬럼만 조회하고, User 가 수정/삭제되면 UserVersionListener 가 커밋 후 제거한다
+ * 2차 캐시(user 리전)와 같이 인스턴스 로컬 캐시이므로 다른 인스턴스의 수정은 expire-after-write 안에 반영된다
+ */
+@Component
+public class UserVersionCache {
+
+  /**
+   * 응답 포맷이 바뀌면 올려서 클라이언트가 가진 이전 ETag 를 무효화한다
+   */
+  private static final int REPRESENTATION_VERSION = 1;
+
+  private final UserRepository userRepository;
+  private final Cache<Long, String> eTags;
+
+  public UserVersionCache(UserRepository userRepository,
+      @Value("${user.etag-cache.maximum-size:10000}") long maximumSize,
+      @Value("${user.etag-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+    this.userRepository = userRepository;
+    this.eTags = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .build();
+  }
+
+  /**
+   * 현재 ETag (사용자가 없으면 empty, 없는 사용자는 캐시하지 않는다)
+   */
+  public Optional<String> eTagOf(Long userId) {
+    String cached = eTags.getIfPresent(userId);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    Optional<String> loaded = userRepository.findModifiedAtByUserId(userId)
+        .map(modifiedAt -> eTagOf(userId, modifiedAt));
+    loaded.ifPresent(eTag -> eTags.put(userId, eTag));
+    return loaded;
+  }
+
+  public void evict(Long userId) {
+    eTags.invalidate(userId);
+  }
+
+  /**
+   * 강한 ETag (따옴표 포함): "{표현 버전}-{userId}-{modifiedAt epoch 나노초 16진수}"
+   */
+  public static String eTagOf(Long userId, LocalDateTime modifiedAt) {
+    long version = modifiedAt == null ? 0L
+        : modifiedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + modifiedAt.getNano();
+    return "\"" + REPRESENTATION_VERSION + "-" + userId + "-" + Long.toHexString(version) + "\"";
+  }
+}
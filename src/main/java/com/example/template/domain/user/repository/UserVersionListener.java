@@ -0,0 +1,41 @@
+package com.example.template.domain.user.repository;
+
+import com.example.template.domain.user.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 수정/삭제 시 UserVersionCache 의 ETag 제거 (Hibernate 가 스프링 빈 컨테이너로 생성해 생성자 주입)
+ * 리스너는 EntityManagerFactory 생성 중에 만들어지므로 리포지토리에 의존하는 캐시는 콜백 시점에 찾는다
+ * flush 직후 한 번, 커밋 직후 한 번 제거해 커밋 전 다른 요청이 이전 modifiedAt 을 다시 캐시해 두는 경우도 막는다
+ */
+public class UserVersionListener {
+
+  private final ObjectProvider<UserVersionCache> userVersionCacheProvider;
+
+  public UserVersionListener(ObjectProvider<UserVersionCache> userVersionCacheProvider) {
+    this.userVersionCacheProvider = userVersionCacheProvider;
+  }
+
+  @PostUpdate
+  @PostRemove
+  void onChange(User user) {
+    UserVersionCache userVersionCache = userVersionCacheProvider.getIfAvailable();
+    if (userVersionCache == null) {
+      return;
+    }
+    Long userId = user.getUserId();
+    userVersionCache.evict(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          userVersionCache.evict(userId);
+        }
+      });
+    }
+  }
+}
@@ -23,9 +23,9 @@ public interface AuthService {
   TokenResponseDto refreshToken(String refreshToken);
 
   /**
-   * 로그아웃 - Refresh Token DB에서 삭제
+   * 로그아웃 - Refresh Token DB에서 삭제, access token 은 즉시 폐기 (불투명 토큰은 세션 삭제, JWT 는 jti 폐기 목록 등록)
    */
-  void logout(Long userId);
+  void logout(Long userId, String accessToken);
 
   /**
    * 이메일 사용 가능 여부 확인
@@ -2,10 +2,22 @@ package com.example.template.domain.user.service;
 
 import com.example.template.domain.user.dto.UserResponseDto;
 
+import java.util.List;
+
 public interface UserService {
 
     /**
      *  본인 정보 조회
      */
     UserResponseDto findMe(Long userId);
+
+    /**
+     *  본인 정보 응답의 현재 ETag (조건부 조회용, User 전체를 읽지 않는다)
+     */
+    String findMeETag(Long userId);
+
+    /**
+     *  사용자 일괄 조회 (요청 순서 유지, 중복 제거, 없는 id 제외)
+     */
+    List<UserResponseDto> findUsers(List<Long> userIds);
 }
@@ -10,12 +10,20 @@ import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
 import com.example.template.domain.user.service.AuthService;
 import com.example.template.global.common.entity.Role;
-import com.example.template.global.common.exception.ApiException;
+import com.example.template.global.common.exception.ApiExceptions;
 import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.common.logging.LogMarkers;
+import com.example.template.global.datasource.ReadYourWritesTracker;
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.monitoring.jfr.JfrUserContext;
+import com.example.template.global.monitoring.jfr.RefreshTokenRotationEvent;
 import com.example.template.global.security.service.JwtTokenProvider;
+import com.example.template.global.security.service.TokenClaims;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
@@ -35,16 +43,21 @@ public class AuthServiceImpl implements AuthService {
   private final AuthenticationManager authenticationManager;
   private final RefreshTokenRepository refreshTokenRepository;
   private final PasswordEncoder passwordEncoder;
+  private final AuthMetrics authMetrics;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final OpaqueTokenStore opaqueTokenStore;
+  private final JwtRevocationList jwtRevocationList;
 
   @Override
   @Transactional
   public void signUp(SignUpRequestDto signUpRequestDto) {
-    log.info("[AuthService] 회원가입 시도");
+    log.debug("[AuthService] 회원가입 시도");
 
     String normalizedEmail = normalizeEmail(signUpRequestDto.email());
     if (userRepository.existsByEmail(normalizedEmail)) {
       log.warn("[AuthService] 회원가입 실패 - 이메일 중복");
-      throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.EMAIL_ALREADY_EXISTS);
+      authMetrics.authFailure(AuthMetrics.SIGN_UP, "email_exists");
+      throw ApiExceptions.EMAIL_ALREADY_EXISTS;
     }
 
     User user = SignUpRequestDto.of(signUpRequestDto, normalizedEmail);
@@ -53,13 +66,15 @@ public class AuthServiceImpl implements AuthService {
     user.changeRole(Role.GENERAL);
 
     User saved = userRepository.save(user);
-    log.info("[AuthService] 회원가입 완료, userId={}", saved.getUserId());
+    authMetrics.authSuccess(AuthMetrics.SIGN_UP);
+    readYourWritesTracker.markWritten(saved.getUserId());
+    log.info(LogMarkers.ROUTINE, "[AuthService] 회원가입 완료, userId={}", saved.getUserId());
   }
 
   @Override
   @Transactional
   public TokenResponseDto login(LoginRequestDto loginRequest) {
-    log.info("[AuthService] 로그인 시도");
+    log.debug("[AuthService] 로그인 시도");
     try {
       String normalizedEmail = normalizeEmail(loginRequest.email());
       authenticationManager.authenticate(
@@ -69,11 +84,13 @@ public class AuthServiceImpl implements AuthService {
       User user = userRepository.findByEmail(normalizedEmail)
           .orElseThrow(() -> {
             log.warn("[AuthService] 로그인 실패 - 사용자 정보 없음");
-            return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.USER_NOT_FOUND);
+            authMetrics.authFailure(AuthMetrics.LOGIN, "user_not_found");
+            return ApiExceptions.USER_NOT_FOUND;
           });
+      // 인증 전 요청이라 SecurityContext 에 사용자가 없다, 이후 리프레시 토큰 해시/조회 JFR 이벤트에 userId 를 남긴다
+      JfrUserContext.set(user.getUserId());
 
-      String accessToken = jwtTokenProvider.createAccessToken(user.getUserId(), user.getEmail(),
-          user.getRole().name());
+      String accessToken = createAccessToken(user.getUserId(), user.getEmail(), user.getRole());
 
       String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), user.getEmail(),
           user.getRole().name());
@@ -93,7 +110,9 @@ public class AuthServiceImpl implements AuthService {
               )
           );
 
-      log.info("[AuthService] 로그인 성공 userId={}", user.getUserId());
+      authMetrics.authSuccess(AuthMetrics.LOGIN);
+      readYourWritesTracker.markWritten(user.getUserId());
+      log.info(LogMarkers.ROUTINE, "[AuthService] 로그인 성공 userId={}", user.getUserId());
 
       return new TokenResponseDto(
           user.getUserId(),
@@ -105,44 +124,71 @@ public class AuthServiceImpl implements AuthService {
       );
     } catch (AuthenticationException ex) {
       log.warn("[AuthService] 로그인 실패 - 인증 실패: {}", ex.getMessage());
-      throw ApiException.of(HttpStatus.BAD_REQUEST, "이메일 또는 비밀번호가 올바르지 않습니다.");
+      authMetrics.authFailure(AuthMetrics.LOGIN, "invalid_credentials");
+      throw ApiExceptions.INVALID_CREDENTIALS;
+    } finally {
+      JfrUserContext.clear();
     }
   }
 
   @Override
   @Transactional
   public TokenResponseDto refreshToken(String refreshToken) {
-    log.info("[AuthService] 토큰 재발급 시도");
+    log.debug("[AuthService] 토큰 재발급 시도");
+
+    RefreshTokenRotationEvent rotationEvent = new RefreshTokenRotationEvent();
+    rotationEvent.begin();
+    String outcome = "failure";
+    try {
+      TokenResponseDto tokenResponse = rotateRefreshToken(refreshToken, rotationEvent);
+      outcome = "success";
+      return tokenResponse;
+    } finally {
+      rotationEvent.finish(outcome);
+      JfrUserContext.clear();
+    }
+  }
 
-    if (!jwtTokenProvider.validateToken(refreshToken)) {
-      log.warn("[AuthService] 토큰 재발급 실패 - reason={}",ErrorMessage.INVALID_REFRESH_TOKEN);
-      throw ApiException.of(HttpStatus.UNAUTHORIZED, ErrorMessage.INVALID_REFRESH_TOKEN);
+  private TokenResponseDto rotateRefreshToken(String refreshToken, RefreshTokenRotationEvent rotationEvent) {
+    // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 (클레임마다 다시 검증하지 않도록)
+    TokenClaims claims;
+    try {
+      claims = jwtTokenProvider.parseToken(refreshToken);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.warn("[AuthService] 토큰 재발급 실패 - reason={}", ErrorMessage.INVALID_REFRESH_TOKEN);
+      authMetrics.authFailure(AuthMetrics.REFRESH, "invalid_token");
+      throw ApiExceptions.INVALID_REFRESH_TOKEN;
     }
 
-    Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+    Long userId = claims.userId();
+    rotationEvent.setUserId(userId);
+    JfrUserContext.set(userId);
 
     RefreshToken storedToken = refreshTokenRepository.findByUserId(userId)
         .orElseThrow(() -> {
           log.error("[AuthService] 토큰 재발급 실패 - 저장된 리프레시 토큰 없음, userId={}", userId);
-          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.REFRESH_TOKEN_NOT_FOUND);
+          authMetrics.authFailure(AuthMetrics.REFRESH, "token_not_found");
+          return ApiExceptions.REFRESH_TOKEN_NOT_FOUND;
         });
 
     if (storedToken.isExpired(LocalDateTime.now())) {
       log.warn("[AuthService] 토큰 재발급 실패 - 저장된 토큰 만료, userId={}", userId);
-      throw ApiException.of(HttpStatus.UNAUTHORIZED, ErrorMessage.INVALID_REFRESH_TOKEN);
+      authMetrics.authFailure(AuthMetrics.REFRESH, "token_expired");
+      throw ApiExceptions.INVALID_REFRESH_TOKEN;
     }
 
     boolean refreshTokenMatches = passwordEncoder.matches(refreshToken, storedToken.getTokenHash())
         || refreshToken.equals(storedToken.getTokenHash()); // 이전 평문 저장분 호환
     if (!refreshTokenMatches) {
       log.warn("[AuthService] 토큰 재발급 실패 - 토큰 불일치, userId={}", userId);
-      throw ApiException.of(HttpStatus.UNAUTHORIZED, ErrorMessage.INVALID_REFRESH_TOKEN);
+      authMetrics.authFailure(AuthMetrics.REFRESH, "token_mismatch");
+      throw ApiExceptions.INVALID_REFRESH_TOKEN;
     }
 
-    String email = normalizeEmail(jwtTokenProvider.getEmailFromToken(refreshToken));
-    String role = jwtTokenProvider.getRoleFromToken(refreshToken);
-    
-    String newAccessToken = jwtTokenProvider.createAccessToken(userId, email, role);
+    String email = normalizeEmail(claims.email());
+    String role = claims.role();
+
+    String newAccessToken = createAccessToken(userId, email, Role.valueOf(role));
     String newRefreshToken = jwtTokenProvider.createRefreshToken(userId, email, role);
 
     String newRefreshTokenHash = passwordEncoder.encode(newRefreshToken);
@@ -151,7 +197,9 @@ public class AuthServiceImpl implements AuthService {
     storedToken.updateToken(newRefreshTokenHash, newRefreshExpiresAt);
     refreshTokenRepository.save(storedToken);
 
-    log.info("[AuthService] 토큰 재발급 성공, userId={}", userId);
+    authMetrics.authSuccess(AuthMetrics.REFRESH);
+    readYourWritesTracker.markWritten(userId);
+    log.info(LogMarkers.ROUTINE, "[AuthService] 토큰 재발급 성공, userId={}", userId);
 
     return new TokenResponseDto(
         userId,
@@ -166,10 +214,17 @@ public class AuthServiceImpl implements AuthService {
 
   @Override
   @Transactional
-  public void logout(Long userId) {
-    log.info("[AuthService] 로그아웃 시도 userId={}", userId);
+  public void logout(Long userId, String accessToken) {
+    log.debug("[AuthService] 로그아웃 시도 userId={}", userId);
+    if (accessToken != null) {
+      if (OpaqueTokenStore.isOpaque(accessToken)) {
+        opaqueTokenStore.revoke(accessToken);
+      } else {
+        revokeJwt(accessToken);
+      }
+    }
     refreshTokenRepository.deleteByUserId(userId);
-    log.info("[AuthService] 로그아웃 완료 userId={}", userId);
+    log.info(LogMarkers.ROUTINE, "[AuthService] 로그아웃 완료 userId={}", userId);
   }
 
 
@@ -180,10 +235,32 @@ public class AuthServiceImpl implements AuthService {
     return !userRepository.existsByEmail(normalizedEmail);
   }
 
+  /**
+   * JWT access token 의 jti 를 exp 까지 폐기 목록에 등록 (이미 만료/위조된 토큰은 등록할 필요 없음)
+   */
+  private void revokeJwt(String accessToken) {
+    try {
+      TokenClaims claims = jwtTokenProvider.parseToken(accessToken);
+      jwtRevocationList.revoke(claims.tokenId(), claims.expiresAt());
+    } catch (JwtException | IllegalArgumentException e) {
+      log.debug("[AuthService] 로그아웃 - 폐기할 필요 없는 access token: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * security.opaque-token.enabled 이면 불투명 토큰, 아니면 JWT
+   */
+  private String createAccessToken(Long userId, String email, Role role) {
+    if (opaqueTokenStore.isEnabled()) {
+      return opaqueTokenStore.issue(userId, role);
+    }
+    return jwtTokenProvider.createAccessToken(userId, email, role.name());
+  }
+
   private String normalizeEmail(String email) {
     if (email == null || email.trim().isEmpty()) {
       log.warn("[AuthService] 이메일 정규화 실패 - 이메일 누락");
-      throw ApiException.of(HttpStatus.BAD_REQUEST, "이메일은 필수 입력 값입니다.");
+      throw ApiExceptions.EMAIL_REQUIRED;
     }
     return email.trim().toLowerCase();
   }
@@ -3,13 +3,23 @@ package com.example.template.domain.user.service.impl;
 import com.example.template.domain.user.dto.UserResponseDto;
 import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
+import com.example.template.domain.user.repository.UserVersionCache;
 import com.example.template.domain.user.service.UserService;
-import com.example.template.global.common.exception.ApiException;
-import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.common.exception.ApiExceptions;
+import com.example.template.global.common.logging.LogMarkers;
+import com.example.template.global.datasource.ShardIds;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -17,17 +27,64 @@ import org.springframework.stereotype.Service;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserVersionCache userVersionCache;
+
+    @Value("${datasource.shards.enabled:false}")
+    private boolean shardingEnabled;
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDto findMe(Long userId) {
-        log.info("[UserService] 본인 정보 조회");
+        log.debug("[UserService] 본인 정보 조회");
         User user= userRepository.findById(userId).orElseThrow(()->{
             log.warn("[UserService] 본인 정보 조회 실패 - 유저 정보 없음");
-            return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.USER_NOT_FOUND);
+            return ApiExceptions.USER_NOT_FOUND;
         });
-        log.info("[UserService] 본인 정보 조회 완료");
+        log.info(LogMarkers.ROUTINE, "[UserService] 본인 정보 조회 완료");
         return UserResponseDto.from(user);
     }
 
+    /**
+     * 캐시에 있으면 커넥션도 잡지 않도록 트랜잭션 없이 조회 (캐시 미스는 리포지토리 기본 readOnly 트랜잭션)
+     */
+    @Override
+    public String findMeETag(Long userId) {
+        return userVersionCache.eTagOf(userId).orElseThrow(() -> {
+            log.warn("[UserService] 본인 정보 ETag 조회 실패 - 유저 정보 없음");
+            return ApiExceptions.USER_NOT_FOUND;
+        });
+    }
 
+    /**
+     * 샤딩을 켜지 않으면 IN 쿼리 한 번, 켜면 id 를 소유 샤드(id 하위 비트)별로 나눠 샤드마다 한 번씩 일괄 조회
+     * (샤딩 전 IDENTITY 로 만든 id 는 하위 비트가 제각각이므로 샤딩을 끈 상태에서 나누면 id 마다 쿼리가 된다)
+     * 샤드마다 별도 readOnly 트랜잭션이 되도록 이 메서드는 트랜잭션을 열지 않는다
+     */
+    @Override
+    public List<UserResponseDto> findUsers(List<Long> userIds) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Long, User> users = new HashMap<>(distinctIds.size());
+        for (List<Long> shardIds : groupByShard(distinctIds)) {
+            for (User user : userRepository.findAllByUserIdIn(shardIds)) {
+                users.put(user.getUserId(), user);
+            }
+        }
+        log.info(LogMarkers.ROUTINE, "[UserService] 사용자 일괄 조회 완료 - 요청 {}건, 조회 {}건", distinctIds.size(), users.size());
+        return distinctIds.stream()
+            .map(users::get)
+            .filter(Objects::nonNull)
+            .map(UserResponseDto::from)
+            .toList();
+    }
+
+    private Iterable<List<Long>> groupByShard(List<Long> distinctIds) {
+        if (!shardingEnabled) {
+            return List.of(distinctIds);
+        }
+        Map<Integer, List<Long>> idsByShard = new HashMap<>();
+        for (Long userId : distinctIds) {
+            idsByShard.computeIfAbsent(ShardIds.shardOf(userId), shard -> new ArrayList<>()).add(userId);
+        }
+        return idsByShard.values();
+    }
 }
@@ -2,15 +2,32 @@ package com.example.template.global.common.exception;
 
 import org.springframework.http.HttpStatus;
 
+/**
+ * API 오류 응답으로 변환되는 예외
+ * <p>
+ * - {@link #of(HttpStatus, String)}: 사용자 없음, 이메일 중복처럼 예상 가능한 비즈니스 실패. 스택 트레이스를 수집하지 않는다.
+ * - {@link #unexpected(HttpStatus, String)}: 원인 추적이 필요한 예상하지 못한 오류. 스택 트레이스를 수집한다.
+ * 메시지가 고정된 실패는 {@link ApiExceptions} 의 공유 인스턴스를 사용한다.
+ */
 public class ApiException extends RuntimeException {
 
   private final int code;
   private final String message;
+  private final boolean expected;
 
   public ApiException(int code, String message) {
     super(message);
     this.code = code;
     this.message = message;
+    this.expected = false;
+  }
+
+  private ApiException(int code, String message, boolean expected) {
+    // suppression 과 스택 트레이스 기록을 끈 불변 예외 (공유 인스턴스로 재사용 가능)
+    super(message, null, false, false);
+    this.code = code;
+    this.message = message;
+    this.expected = expected;
   }
 
   public int getCode() {
@@ -22,7 +39,18 @@ public class ApiException extends RuntimeException {
     return message;
   }
 
+  /**
+   * 예상 가능한 비즈니스 실패 여부 (true 면 스택 트레이스가 없다)
+   */
+  public boolean isExpected() {
+    return expected;
+  }
+
   public static ApiException of(HttpStatus status, String message) {
+    return new ApiException(status.value(), message, true);
+  }
+
+  public static ApiException unexpected(HttpStatus status, String message) {
     return new ApiException(status.value(), message);
   }
 }
@@ -0,0 +1,28 @@
+package com.example.template.global.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 메시지가 고정된 비즈니스 실패의 공유 인스턴스
+ * 스택 트레이스/suppression 이 비활성화된 불변 예외라 여러 스레드에서 그대로 던져도 안전하다
+ */
+public final class ApiExceptions {
+
+  public static final ApiException INVALID_CREDENTIALS =
+      ApiException.of(HttpStatus.BAD_REQUEST, ErrorMessage.INVALID_CREDENTIALS);
+  public static final ApiException EMAIL_REQUIRED =
+      ApiException.of(HttpStatus.BAD_REQUEST, ErrorMessage.EMAIL_REQUIRED);
+  public static final ApiException INVALID_REFRESH_TOKEN =
+      ApiException.of(HttpStatus.UNAUTHORIZED, ErrorMessage.INVALID_REFRESH_TOKEN);
+  public static final ApiException USER_NOT_FOUND =
+      ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.USER_NOT_FOUND);
+  public static final ApiException REFRESH_TOKEN_NOT_FOUND =
+      ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.REFRESH_TOKEN_NOT_FOUND);
+  public static final ApiException EMAIL_ALREADY_EXISTS =
+      ApiException.of(HttpStatus.CONFLICT, ErrorMessage.EMAIL_ALREADY_EXISTS);
+  public static final ApiException SESSION_CAPACITY_EXCEEDED =
+      ApiException.of(HttpStatus.SERVICE_UNAVAILABLE, ErrorMessage.SESSION_CAPACITY_EXCEEDED);
+
+  private ApiExceptions() {
+  }
+}
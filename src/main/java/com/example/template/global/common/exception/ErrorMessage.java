@@ -1,9 +1,17 @@
 package com.example.template.global.common.exception;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
 public class ErrorMessage {
 
   // 400 Bad Request 
   public static final String BAD_REQUEST = "요청 파라미터가 올바르지 않습니다.";
+  public static final String INVALID_CREDENTIALS = "이메일 또는 비밀번호가 올바르지 않습니다.";
+  public static final String EMAIL_REQUIRED = "이메일은 필수 입력 값입니다.";
+  public static final String MISSING_REFRESH_TOKEN = "리프레시 토큰이 없습니다.";
 
   // 401 Unauthorized 
   public static final String UNAUTHORIZED = "인증이 필요합니다.";
@@ -14,10 +22,14 @@ public class ErrorMessage {
 
   // Conflict
   public static final String EMAIL_ALREADY_EXISTS="존재하는 이메일입니다.";
+  public static final String JFR_RECORDING_NOT_RUNNING = "실행 중인 JFR 기록이 없습니다.";
 
   // 500 Internal Server Error 
   public static final String INTERNAL_SERVER_ERROR = "알 수 없는 서버 오류가 발생했습니다.";
 
+  // 503 Service Unavailable
+  public static final String SESSION_CAPACITY_EXCEEDED = "로그인 세션이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
   // 도메인별 NOT_FOUND 에러 메시지 (404)  
   public static final String USER_NOT_FOUND = "해당 유저를 찾을 수 없습니다.";
   public static final String REFRESH_TOKEN_NOT_FOUND = "해당 리프래시 토큰을 찾을 수 없습니다.";
@@ -26,4 +38,23 @@ public class ErrorMessage {
   public static final String MISSING_TOKEN = "인증 토큰이 필요합니다. 로그인해주세요.";
 
   public static final String INVALID_REFRESH_TOKEN="유효하지 않은 리프래시 토큰입니다.";
+
+  /**
+   * 모든 메시지 상수 (응답 바디/직렬화 문자열을 미리 만들어 두는 곳에서 사용)
+   */
+  public static List<String> constants() {
+    List<String> messages = new ArrayList<>();
+    for (Field field : ErrorMessage.class.getFields()) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers)
+          && field.getType() == String.class) {
+        try {
+          messages.add((String) field.get(null));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException("[ErrorMessage] 상수 조회 실패: " + field.getName(), e);
+        }
+      }
+    }
+    return messages;
+  }
 }
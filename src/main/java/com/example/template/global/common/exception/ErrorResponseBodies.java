@@ -0,0 +1,84 @@
+package com.example.template.global.common.exception;
+
+import com.example.template.global.common.util.ApiResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ErrorMessage 상수로 만든 실패 응답(ApiResult.fail) 바디를 기동 시 UTF-8 바이트로 미리 직렬화해 둔다
+ * 401/403 핸들러와 GlobalExceptionHandler 가 거절 응답마다 ObjectMapper 를 거치지 않도록 사용한다
+ */
+@Component
+public class ErrorResponseBodies {
+
+  private static final int MIN_STATUS = 400;
+  private static final int MAX_STATUS = 599;
+
+  /**
+   * 서비스/핸들러에서 실제로 사용하는 오류 상태코드
+   */
+  private static final int[] PRE_ENCODED_STATUSES = {400, 401, 403, 404, 409, 500};
+
+  private final ObjectMapper objectMapper;
+  private final Map<String, byte[]>[] bodiesByStatus;
+
+  @SuppressWarnings("unchecked")
+  public ErrorResponseBodies(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.bodiesByStatus = new Map[MAX_STATUS - MIN_STATUS + 1];
+
+    List<String> messages = ErrorMessage.constants();
+    for (int status : PRE_ENCODED_STATUSES) {
+      Map<String, byte[]> bodies = new HashMap<>();
+      for (String message : messages) {
+        bodies.put(message, serialize(status, message));
+      }
+      bodiesByStatus[status - MIN_STATUS] = Map.copyOf(bodies);
+    }
+  }
+
+  /**
+   * 미리 직렬화된 바디 조회, 상수 메시지가 아니거나 지원하지 않는 상태코드면 null
+   */
+  public byte[] find(int status, String message) {
+    if (status < MIN_STATUS || status > MAX_STATUS || message == null) {
+      return null;
+    }
+    Map<String, byte[]> bodies = bodiesByStatus[status - MIN_STATUS];
+    return bodies == null ? null : bodies.get(message);
+  }
+
+  /**
+   * 실패 응답을 출력 스트림에 바로 기록 (미리 직렬화된 바디가 없으면 ObjectMapper 로 직렬화)
+   */
+  public void write(HttpServletResponse response, int status, String message) throws IOException {
+    byte[] body = find(status, message);
+    if (body == null) {
+      body = objectMapper.writeValueAsBytes(ApiResult.fail(status, message));
+    }
+
+    response.setStatus(status);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+    response.flushBuffer();
+  }
+
+  private byte[] serialize(int status, String message) {
+    try {
+      return objectMapper.writeValueAsBytes(ApiResult.fail(status, message));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("[ErrorResponse] 오류 응답 직렬화 실패: " + message, e);
+    }
+  }
+}
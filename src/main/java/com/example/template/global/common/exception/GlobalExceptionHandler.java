@@ -2,8 +2,10 @@ package com.example.template.global.common.exception;
 
 import com.example.template.global.common.util.ApiResult;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
@@ -14,8 +16,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+  private final ErrorResponseBodies errorResponseBodies;
+
   /**
    * 요청 DTO(@RequestBody, @ModelAttribute 등) 유효성 검증 실패 시 발생.
    * <p>
@@ -84,12 +89,25 @@ public class GlobalExceptionHandler {
    * 처리 방식:
    * - ApiException 에 담긴 상태코드와 메시지를 그대로 응답에 반영한다.
    * - HTTP 상태코드는 예외 내부의 code 값을 따른다.
+   * - ErrorMessage 상수 메시지는 기동 시 미리 직렬화해 둔 바디를 그대로 내려준다.
+   * - 예상 가능한 4xx 비즈니스 실패는 DEBUG 로만 남기고, 5xx 나 예상하지 못한 예외만 스택과 함께 ERROR 로 남긴다.
    *
    * 일관된 예외 처리와 다양한 상태코드 활용을 위해 IllegalArgumentException 보다는 ApiException.of(HttpStatus, ErrorMessage) 사용을 권장한다.
    */
   @ExceptionHandler(ApiException.class)
-  public ResponseEntity<ApiResult<Void>> handleApiException(ApiException e) {
-    log.error("API Exception: code={}, message={}", e.getCode(), e.getMessage());
+  public ResponseEntity<?> handleApiException(ApiException e) {
+    if (e.isExpected() && e.getCode() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+      log.debug("API Exception: code={}, message={}", e.getCode(), e.getMessage());
+    } else {
+      log.error("API Exception: code={}, message={}", e.getCode(), e.getMessage(), e);
+    }
+    byte[] preEncodedBody = errorResponseBodies.find(e.getCode(), e.getMessage());
+    if (preEncodedBody != null) {
+      return ResponseEntity
+          .status(e.getCode())
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(preEncodedBody);
+    }
     return ResponseEntity
         .status(e.getCode())
         .body(ApiResult.fail(e.getCode(), e.getMessage()));
@@ -0,0 +1,18 @@
+package com.example.template.global.common.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 로그 분류용 마커
+ */
+public final class LogMarkers {
+
+  /**
+   * 로그인/재발급/조회 성공처럼 매 요청 반복되는 정상 흐름 로그, RoutineLogSamplingFilter 가 카테고리별로 샘플링한다
+   */
+  public static final Marker ROUTINE = MarkerFactory.getMarker("ROUTINE");
+
+  private LogMarkers() {
+  }
+}
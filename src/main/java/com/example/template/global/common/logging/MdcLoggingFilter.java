@@ -0,0 +1,63 @@
+package com.example.template.global.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 MDC 에 requestId 를 넣고 응답 헤더로 돌려준다 (userId 는 인증 필터가 추가)
+ * UUID 대신 ThreadLocalRandom 기반 16자리 hex 를 사용해 SecureRandom 비용을 피한다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class MdcLoggingFilter extends OncePerRequestFilter {
+
+  public static final String REQUEST_ID = "requestId";
+  public static final String USER_ID = "userId";
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+  private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+    MDC.put(REQUEST_ID, requestId);
+    response.setHeader(REQUEST_ID_HEADER, requestId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(REQUEST_ID);
+      MDC.remove(USER_ID);
+    }
+  }
+
+  private String resolveRequestId(String headerValue) {
+    if (headerValue != null && !headerValue.isEmpty()
+        && headerValue.length() <= MAX_REQUEST_ID_LENGTH && isSafe(headerValue)) {
+      return headerValue;
+    }
+    return Long.toHexString(ThreadLocalRandom.current().nextLong());
+  }
+
+  private boolean isSafe(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+          || c == '-' || c == '_' || c == '.';
+      if (!allowed) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.template.global.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ROUTINE 마커가 붙은 로그를 로거 카테고리(이름 prefix)별로 N건 중 1건만 기록하는 logback TurboFilter
+ * <p>
+ * rates 형식: "com.example.template.domain.user.service=10,com.example.template.global.security=100"
+ * 가장 길게 일치하는 prefix 의 비율을 사용하고, 없으면 defaultRate 를 사용한다 (1 이하는 모두 기록).
+ */
+public class RoutineLogSamplingFilter extends TurboFilter {
+
+  private volatile int defaultRate = 1;
+  private volatile Map<String, Integer> ratesByCategory = Map.of();
+  private final Map<String, Sampler> samplersByLogger = new ConcurrentHashMap<>();
+
+  public void setDefaultRate(int defaultRate) {
+    this.defaultRate = defaultRate;
+    samplersByLogger.clear();
+  }
+
+  public void setRates(String rates) {
+    Map<String, Integer> parsed = new ConcurrentHashMap<>();
+    if (rates != null) {
+      for (String entry : rates.split(",")) {
+        int separator = entry.indexOf('=');
+        if (separator <= 0) {
+          continue;
+        }
+        String category = entry.substring(0, separator).trim();
+        try {
+          parsed.put(category, Integer.parseInt(entry.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+          addWarn("잘못된 샘플링 비율 설정: " + entry);
+        }
+      }
+    }
+    this.ratesByCategory = Map.copyOf(parsed);
+    samplersByLogger.clear();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+      Object[] params, Throwable t) {
+    if (marker == null || !(marker == LogMarkers.ROUTINE || marker.contains(LogMarkers.ROUTINE))) {
+      return FilterReply.NEUTRAL;
+    }
+    // 어차피 기록되지 않을 레벨이면 카운터를 소모하지 않는다
+    if (level == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+      return FilterReply.NEUTRAL;
+    }
+
+    Sampler sampler = samplersByLogger.computeIfAbsent(logger.getName(), this::createSampler);
+    return sampler.accept() ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  private Sampler createSampler(String loggerName) {
+    int rate = defaultRate;
+    int matchedLength = -1;
+    for (Map.Entry<String, Integer> entry : ratesByCategory.entrySet()) {
+      String category = entry.getKey();
+      if (category.length() > matchedLength && loggerName.startsWith(category)) {
+        rate = entry.getValue();
+        matchedLength = category.length();
+      }
+    }
+    return new Sampler(rate);
+  }
+
+  private static final class Sampler {
+
+    private final int rate;
+    private final AtomicLong counter = new AtomicLong();
+
+    private Sampler(int rate) {
+      this.rate = rate;
+    }
+
+    boolean accept() {
+      return rate <= 1 || counter.getAndIncrement() % rate == 0;
+    }
+  }
+}
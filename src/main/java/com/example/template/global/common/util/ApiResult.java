@@ -7,6 +7,8 @@ import lombok.Getter;
 @Schema(description = "공통 API 응답 포맷")
 public class ApiResult<T> {
 
+  public static final String SUCCESS_MESSAGE = "요청 성공";
+
   @Schema(description = "요청 성공 여부", example = "true")
   private boolean success;
 
@@ -27,7 +29,7 @@ public class ApiResult<T> {
   }
 
   public static <T> ApiResult<T> success(T data) {
-    return new ApiResult<T>(true, "요청 성공", 200, data);
+    return new ApiResult<T>(true, SUCCESS_MESSAGE, 200, data);
   }
 
   public static <T> ApiResult<T> success(int code, String message, T data) {
@@ -0,0 +1,146 @@
+package com.example.template.global.common.util;
+
+import com.example.template.domain.user.dto.TokenResponseDto;
+import com.example.template.domain.user.dto.UserResponseDto;
+import com.example.template.global.common.exception.ErrorMessage;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 모든 응답을 감싸는 ApiResult 와 로그인/재발급(TokenResponseDto), 내 정보(UserResponseDto) 응답의 수기 직렬화
+ * <p>
+ * 리플렉션 기반 BeanSerializer 대신 필드를 순서대로 직접 기록하고, 필드 이름과 상수 메시지(요청 성공, ErrorMessage)는
+ * 미리 인코딩한 SerializedString 을 재사용한다. ApiResult.data 가 null 이면 data 필드를 생략한다
+ * 필드 이름/순서는 기존 직렬화 결과와 같으므로 DTO 에 필드를 추가하면 여기에도 추가해야 한다 (ApiResultJsonModuleTest)
+ */
+public class ApiResultJsonModule extends SimpleModule {
+
+  private static final SerializedString SUCCESS = new SerializedString("success");
+  private static final SerializedString MESSAGE = new SerializedString("message");
+  private static final SerializedString CODE = new SerializedString("code");
+  private static final SerializedString DATA = new SerializedString("data");
+
+  private static final SerializedString USER_ID = new SerializedString("userId");
+  private static final SerializedString EMAIL = new SerializedString("email");
+  private static final SerializedString NAME = new SerializedString("name");
+  private static final SerializedString ROLE = new SerializedString("role");
+  private static final SerializedString ACCESS_TOKEN = new SerializedString("accessToken");
+  private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+
+  private static final Map<String, SerializableString> CONSTANT_MESSAGES = constantMessages();
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public ApiResultJsonModule() {
+    super("ApiResultJsonModule");
+    addSerializer((Class) ApiResult.class, new ApiResultSerializer());
+    addSerializer(TokenResponseDto.class, new TokenResponseDtoSerializer());
+    addSerializer(UserResponseDto.class, new UserResponseDtoSerializer());
+  }
+
+  private static Map<String, SerializableString> constantMessages() {
+    Map<String, SerializableString> messages = new HashMap<>();
+    messages.put(ApiResult.SUCCESS_MESSAGE, new SerializedString(ApiResult.SUCCESS_MESSAGE));
+    for (String message : ErrorMessage.constants()) {
+      messages.put(message, new SerializedString(message));
+    }
+    return Map.copyOf(messages);
+  }
+
+  private static void writeNullableNumber(JsonGenerator gen, SerializedString field, Long value) throws IOException {
+    gen.writeFieldName(field);
+    if (value == null) {
+      gen.writeNull();
+    } else {
+      gen.writeNumber(value);
+    }
+  }
+
+  private static void writeNullableString(JsonGenerator gen, SerializedString field, String value) throws IOException {
+    gen.writeFieldName(field);
+    if (value == null) {
+      gen.writeNull();
+    } else {
+      gen.writeString(value);
+    }
+  }
+
+  static class ApiResultSerializer extends StdSerializer<ApiResult<?>> {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ApiResultSerializer() {
+      super((Class) ApiResult.class);
+    }
+
+    @Override
+    public void serialize(ApiResult<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      gen.writeFieldName(SUCCESS);
+      gen.writeBoolean(value.isSuccess());
+
+      gen.writeFieldName(MESSAGE);
+      String message = value.getMessage();
+      SerializableString encoded = message == null ? null : CONSTANT_MESSAGES.get(message);
+      if (encoded != null) {
+        gen.writeString(encoded);
+      } else if (message != null) {
+        gen.writeString(message);
+      } else {
+        gen.writeNull();
+      }
+
+      gen.writeFieldName(CODE);
+      gen.writeNumber(value.getCode());
+
+      Object data = value.getData();
+      if (data != null) {
+        gen.writeFieldName(DATA);
+        provider.findValueSerializer(data.getClass()).serialize(data, gen, provider);
+      }
+      gen.writeEndObject();
+    }
+  }
+
+  static class TokenResponseDtoSerializer extends StdSerializer<TokenResponseDto> {
+
+    TokenResponseDtoSerializer() {
+      super(TokenResponseDto.class);
+    }
+
+    @Override
+    public void serialize(TokenResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeNullableNumber(gen, USER_ID, value.userId());
+      writeNullableString(gen, EMAIL, value.email());
+      writeNullableString(gen, NAME, value.name());
+      writeNullableString(gen, ROLE, value.role());
+      writeNullableString(gen, ACCESS_TOKEN, value.accessToken());
+      writeNullableString(gen, REFRESH_TOKEN, value.refreshToken());
+      gen.writeEndObject();
+    }
+  }
+
+  static class UserResponseDtoSerializer extends StdSerializer<UserResponseDto> {
+
+    UserResponseDtoSerializer() {
+      super(UserResponseDto.class);
+    }
+
+    @Override
+    public void serialize(UserResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeNullableNumber(gen, USER_ID, value.userId());
+      writeNullableString(gen, EMAIL, value.email());
+      writeNullableString(gen, NAME, value.name());
+      writeNullableString(gen, ROLE, value.role() == null ? null : value.role().name());
+      gen.writeEndObject();
+    }
+  }
+}
@@ -1,27 +1,28 @@
 package com.example.template.global.common.util;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.util.Arrays;
-
 /**
  * 토큰 탈취에 대한 문제로 인하여 토큰 발급시 토큰을 쿠키에 담기 위해 작성
- * 생성시 재발급시 create, 로그아웃 시 clean, 백엔드 내에서 읽을 땐 getCookie
+ * 생성시 재발급시 create, 로그아웃 시 clean, 백엔드 내에서 읽을 땐 getCookieValue
+ * <p>
+ * Set-Cookie 속성(Path/Domain/Max-Age/Secure/HttpOnly/SameSite)은 기동 시 한 번만 렌더링하고,
+ * 요청 쿠키는 Cookie[] 파싱 없이 Cookie 헤더에서 필요한 이름만 찾는다. 상태는 모두 불변이라 thread-safe 하다.
  */
 @Component
 public class CookieUtil {
 
-  private static boolean secure;
-  private static String sameSite;
-  private static String domain;
-  private static Duration accessTokenMaxAge;
-  private static Duration refreshTokenMaxAge;
+  public static final String ACCESS_TOKEN = "accessToken";
+  public static final String REFRESH_TOKEN = "refreshToken";
+
+  private static final String EPOCH_EXPIRES = "Thu, 01 Jan 1970 00:00:00 GMT";
+
+  private final String accessCookieSuffix;
+  private final String refreshCookieSuffix;
+  private final HttpHeaders cleanCookieHeaders;
 
   public CookieUtil(
       @Value("${security.cookie.secure:true}") boolean secure,
@@ -30,79 +31,106 @@ public class CookieUtil {
       @Value("${security.cookie.access-max-age-seconds:1800}") long accessTokenMaxAgeSeconds,
       @Value("${security.cookie.refresh-max-age-seconds:604800}") long refreshTokenMaxAgeSeconds
   ) {
-    CookieUtil.secure = secure;
-    CookieUtil.sameSite = sameSite;
-    CookieUtil.domain = domain;
-    CookieUtil.accessTokenMaxAge = Duration.ofSeconds(Math.max(accessTokenMaxAgeSeconds, 0));
-    CookieUtil.refreshTokenMaxAge = Duration.ofSeconds(Math.max(refreshTokenMaxAgeSeconds, 0));
-  }
+    this.accessCookieSuffix = renderAttributes(secure, sameSite, domain,
+        Math.max(accessTokenMaxAgeSeconds, 0), null);
+    this.refreshCookieSuffix = renderAttributes(secure, sameSite, domain,
+        Math.max(refreshTokenMaxAgeSeconds, 0), null);
 
-  public static HttpHeaders createCookie(String accessToken, String refreshToken) {
-    ResponseCookie.ResponseCookieBuilder refreshCookieBuilder = ResponseCookie.from("refreshToken", refreshToken)
-        .httpOnly(true)
-        .secure(secure)
-        .path("/")
-        .maxAge(refreshTokenMaxAge)
-        .sameSite(sameSite);
-    ResponseCookie.ResponseCookieBuilder accessCookieBuilder = ResponseCookie.from("accessToken", accessToken)
-        .httpOnly(true)
-        .secure(secure)
-        .path("/")
-        .maxAge(accessTokenMaxAge)
-        .sameSite(sameSite);
-
-    if (domain != null && !domain.isBlank()) {
-      refreshCookieBuilder.domain(domain);
-      accessCookieBuilder.domain(domain);
-    }
-
-    ResponseCookie refreshCookie = refreshCookieBuilder.build();
-    ResponseCookie accessCookie = accessCookieBuilder.build();
+    String expiredSuffix = renderAttributes(secure, sameSite, domain, 0, EPOCH_EXPIRES);
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(HttpHeaders.SET_COOKIE, REFRESH_TOKEN + "=" + expiredSuffix);
+    headers.add(HttpHeaders.SET_COOKIE, ACCESS_TOKEN + "=" + expiredSuffix);
+    this.cleanCookieHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+  }
 
+  public HttpHeaders createCookie(String accessToken, String refreshToken) {
     HttpHeaders headers = new HttpHeaders();
-    headers.add(HttpHeaders.SET_COOKIE, refreshCookie.toString());
-    headers.add(HttpHeaders.SET_COOKIE, accessCookie.toString());
+    headers.add(HttpHeaders.SET_COOKIE, REFRESH_TOKEN + "=" + refreshToken + refreshCookieSuffix);
+    headers.add(HttpHeaders.SET_COOKIE, ACCESS_TOKEN + "=" + accessToken + accessCookieSuffix);
     return headers;
   }
 
-  public static HttpHeaders cleanCookies() {
-    ResponseCookie.ResponseCookieBuilder refreshCookieBuilder = ResponseCookie.from("refreshToken", null)
-        .httpOnly(true)
-        .secure(secure)
-        .path("/")
-        .maxAge(0)
-        .sameSite(sameSite);
-    ResponseCookie.ResponseCookieBuilder accessCookieBuilder = ResponseCookie.from("accessToken", null)
-        .httpOnly(true)
-        .secure(secure)
-        .path("/")
-        .maxAge(0)
-        .sameSite(sameSite);
+  /**
+   * 미리 만들어 둔 읽기 전용 헤더를 그대로 반환 (ResponseEntity 가 복사해서 사용)
+   */
+  public HttpHeaders cleanCookies() {
+    return cleanCookieHeaders;
+  }
 
-    if (domain != null && !domain.isBlank()) {
-      refreshCookieBuilder.domain(domain);
-      accessCookieBuilder.domain(domain);
+  public String getCookieValue(HttpServletRequest request, String cookieName) {
+    String cookieHeader = request.getHeader(HttpHeaders.COOKIE);
+    if (cookieHeader == null) {
+      return null;
     }
-
-    ResponseCookie refreshCookie = refreshCookieBuilder.build();
-    ResponseCookie accessCookie = accessCookieBuilder.build();
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.add(HttpHeaders.SET_COOKIE, refreshCookie.toString());
-    headers.add(HttpHeaders.SET_COOKIE, accessCookie.toString());
-    return headers;
+    return findCookieValue(cookieHeader, cookieName);
   }
 
-  public static String getCookieValue(HttpServletRequest request, String cookieName) {
-    if (request.getCookies() == null) {
-      return null;
+  /**
+   * "a=1; b=2" 형태의 Cookie 헤더에서 cookieName 값만 잘라낸다 (쿠키별 객체를 만들지 않음)
+   */
+  static String findCookieValue(String cookieHeader, String cookieName) {
+    int headerLength = cookieHeader.length();
+    int nameLength = cookieName.length();
+    int position = 0;
+
+    while (position < headerLength) {
+      char c = cookieHeader.charAt(position);
+      if (c == ' ' || c == '\t' || c == ';') {
+        position++;
+        continue;
+      }
+
+      int end = cookieHeader.indexOf(';', position);
+      if (end < 0) {
+        end = headerLength;
+      }
+
+      if (end - position > nameLength
+          && cookieHeader.charAt(position + nameLength) == '='
+          && cookieHeader.regionMatches(position, cookieName, 0, nameLength)) {
+        int valueStart = position + nameLength + 1;
+        int valueEnd = end;
+        while (valueEnd > valueStart && isWhitespace(cookieHeader.charAt(valueEnd - 1))) {
+          valueEnd--;
+        }
+        if (valueEnd - valueStart >= 2
+            && cookieHeader.charAt(valueStart) == '"'
+            && cookieHeader.charAt(valueEnd - 1) == '"') {
+          valueStart++;
+          valueEnd--;
+        }
+        return cookieHeader.substring(valueStart, valueEnd);
+      }
+      position = end + 1;
     }
+    return null;
+  }
 
-    return Arrays.stream(request.getCookies())
-        .filter(cookie -> cookie.getName().equals(cookieName))
-        .map(Cookie::getValue)
-        .findFirst()
-        .orElse(null);
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t';
   }
 
-}
\ No newline at end of file
+  /**
+   * ResponseCookie 와 동일한 속성 순서로 "; Path=/; ..." 접미사를 만든다
+   * 양수 Max-Age 에는 요청 시각에 따라 달라지는 Expires 를 붙이지 않는다 (Max-Age 가 우선 적용됨)
+   */
+  private static String renderAttributes(boolean secure, String sameSite, String domain,
+      long maxAgeSeconds, String expires) {
+    StringBuilder builder = new StringBuilder("; Path=/");
+    if (domain != null && !domain.isBlank()) {
+      builder.append("; Domain=").append(domain.trim());
+    }
+    builder.append("; Max-Age=").append(maxAgeSeconds);
+    if (expires != null) {
+      builder.append("; Expires=").append(expires);
+    }
+    if (secure) {
+      builder.append("; Secure");
+    }
+    builder.append("; HttpOnly");
+    if (sameSite != null && !sameSite.isBlank()) {
+      builder.append("; SameSite=").append(sameSite.trim());
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.template.global.config;
+
+import com.example.template.global.datasource.DataSourceRole;
+import com.example.template.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * datasource.replica.enabled=true 일 때 primary/replica 두 풀을 만들고 readOnly 트랜잭션을 replica 로 라우팅
+ * 비활성화 시 spring.datasource 로 만든 기본 DataSource 를 그대로 사용한다
+ * 풀 이름(primary/replica)이 hikaricp.* 메트릭의 pool 태그가 된다
+ * 샤딩(ShardDataSourceConfig)을 켜면 이 설정은 적용되지 않는다
+ */
+@Configuration
+@ConditionalOnExpression("${datasource.replica.enabled:false} and !${datasource.shards.enabled:false}")
+public class DataSourceConfig {
+
+  @Bean
+  @Primary
+  @ConfigurationProperties("spring.datasource")
+  public DataSourceProperties primaryDataSourceProperties() {
+    return new DataSourceProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica")
+  public DataSourceProperties replicaDataSourceProperties() {
+    return new DataSourceProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties primaryDataSourceProperties) {
+    HikariDataSource dataSource = primaryDataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      @Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties) {
+    HikariDataSource dataSource = replicaDataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+    routingDataSource.setTargetDataSources(Map.of(
+        DataSourceRole.PRIMARY, primaryDataSource,
+        DataSourceRole.REPLICA, replicaDataSource
+    ));
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    // 실제 커넥션 획득을 첫 쿼리 시점으로 미뤄 readOnly 여부가 결정된 뒤 라우팅되게 한다
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
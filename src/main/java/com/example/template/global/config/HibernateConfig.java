@@ -0,0 +1,19 @@
+package com.example.template.global.config;
+
+import com.example.template.global.monitoring.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+  /**
+   * 요청/테스트 단위 SQL 문 수 집계용 StatementInspector 등록
+   */
+  @Bean
+  public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+  }
+}
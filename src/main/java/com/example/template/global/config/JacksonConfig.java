@@ -0,0 +1,18 @@
+package com.example.template.global.config;
+
+import com.example.template.global.common.util.ApiResultJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+  /**
+   * Module 빈은 Spring Boot 가 만드는 ObjectMapper(MVC 메시지 컨버터, ErrorResponseBodies, WarmUpRunner)에 자동 등록된다
+   */
+  @Bean
+  public Module apiResultJsonModule() {
+    return new ApiResultJsonModule();
+  }
+}
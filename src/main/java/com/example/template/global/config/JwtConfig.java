@@ -0,0 +1,25 @@
+package com.example.template.global.config;
+
+import com.example.template.global.security.service.JwtKeyProperties;
+import com.example.template.global.security.service.JwtKeyRing;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JwtConfig {
+
+  @Bean
+  @ConfigurationProperties("jwt")
+  public JwtKeyProperties jwtKeyProperties() {
+    return new JwtKeyProperties();
+  }
+
+  /**
+   * 키 형식/길이 오류는 기동 시 IllegalStateException 으로 드러난다
+   */
+  @Bean
+  public JwtKeyRing jwtKeyRing(JwtKeyProperties jwtKeyProperties) {
+    return JwtKeyRing.from(jwtKeyProperties);
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.template.global.config;
+
+import com.example.template.domain.user.dto.LoginRequestDto;
+import com.example.template.domain.user.dto.PasswordChangeRequestDto;
+import com.example.template.domain.user.dto.SignUpRequestDto;
+import com.example.template.domain.user.dto.TokenIntrospectionRequestDto;
+import com.example.template.domain.user.dto.TokenIntrospectionResponseDto;
+import com.example.template.domain.user.dto.TokenResponseDto;
+import com.example.template.domain.user.dto.UserBatchRequestDto;
+import com.example.template.domain.user.dto.UserResponseDto;
+import com.example.template.domain.user.dto.UserUpdateRequestDto;
+import com.example.template.global.common.util.ApiResult;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * native-image 용 힌트 등록 (JVM 실행에는 영향 없음)
+ * 요청/응답 DTO(record)와 Lombok 게터 기반 ApiResult 는 Jackson 바인딩용 리플렉션을 등록한다
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@RegisterReflectionForBinding({
+    ApiResult.class,
+    SignUpRequestDto.class,
+    LoginRequestDto.class,
+    PasswordChangeRequestDto.class,
+    UserUpdateRequestDto.class,
+    UserBatchRequestDto.class,
+    TokenIntrospectionRequestDto.class,
+    TokenIntrospectionResponseDto.class,
+    TokenResponseDto.class,
+    UserResponseDto.class
+})
+public class NativeHintsConfig {
+}
@@ -0,0 +1,79 @@
+package com.example.template.global.config;
+
+import com.example.template.domain.refreshtoken.entity.RefreshToken;
+import com.example.template.domain.user.entity.User;
+import com.example.template.global.common.entity.BaseEntity;
+import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.datasource.ShardedIdGenerator;
+import com.example.template.global.monitoring.jfr.JfrRecordingService;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * native-image 빌드 시 정적 분석으로 찾을 수 없는 리플렉션/리소스 접근 등록
+ * (엔티티/리포지토리/컨트롤러 바인딩 대부분은 Spring AOT 가 등록하고, 여기에는 그 밖의 접근만 둔다)
+ */
+class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+  /**
+   * jjwt-api 가 구현체를 클래스 이름으로 생성/호출하는 대상 (Jwts, Keys, Jwks 의 Classes.newInstance / invokeStatic)
+   */
+  static final List<String> JJWT_IMPL_TYPES = List.of(
+      "io.jsonwebtoken.impl.DefaultJwtBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+      "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+      "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardKeyOperations",
+      "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardCurves",
+      "io.jsonwebtoken.impl.security.KeysBridge",
+      "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+      "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+      "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+      "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+      // jjwt-jackson: ServiceLoader 로 찾는 직렬화 구현
+      "io.jsonwebtoken.jackson.io.JacksonSerializer",
+      "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+  );
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (String type : JJWT_IMPL_TYPES) {
+      hints.reflection().registerType(TypeReference.of(type),
+          MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+          MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+    hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+    // 엔티티: Hibernate 가 필드 접근/기본 생성자로 인스턴스화
+    for (Class<?> entity : List.of(User.class, RefreshToken.class, BaseEntity.class)) {
+      hints.reflection().registerType(entity,
+          MemberCategory.DECLARED_FIELDS,
+          MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+          MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+    // @GenericGenerator(type = ...) 로 지정한 id 생성기
+    hints.reflection().registerType(ShardedIdGenerator.class,
+        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+        MemberCategory.INVOKE_PUBLIC_METHODS);
+    // 2차 캐시 provider 는 설정 문자열(javax.cache.provider)로 로드
+    hints.reflection().registerType(
+        TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+    // ErrorResponseBodies 가 기동 시 상수 필드를 리플렉션으로 읽는다
+    hints.reflection().registerType(ErrorMessage.class, MemberCategory.PUBLIC_FIELDS);
+
+    // Caffeine JCache 리전 설정, JFR 설정 파일
+    hints.resources().registerPattern("application.conf");
+    hints.resources().registerPattern(JfrRecordingService.SETTINGS_RESOURCE);
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.template.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(커넥션 풀 크기 진단 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,8 +1,12 @@
 package com.example.template.global.config;
 
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.monitoring.TimedPasswordEncoder;
+import com.example.template.global.security.SecurityRoutes;
 import com.example.template.global.security.handler.CustomAccessDeniedHandler;
 import com.example.template.global.security.handler.JwtAuthenticationEntryPoint;
 import com.example.template.global.security.service.JwtAuthenticationFilter;
+import com.example.template.global.security.service.ServiceAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +36,7 @@ import java.util.Optional;
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final ServiceAuthenticationFilter serviceAuthenticationFilter;
   private final CustomAccessDeniedHandler accessDeniedHandler;
   private final JwtAuthenticationEntryPoint authenticationEntryPoint;
 
@@ -51,8 +56,8 @@ public class SecurityConfig {
   private boolean allowCredentials;
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(AuthMetrics authMetrics) {
+    return new TimedPasswordEncoder(new BCryptPasswordEncoder(), authMetrics);
   }
 
   @Bean
@@ -94,21 +99,18 @@ public class SecurityConfig {
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(authorize -> authorize
-            .requestMatchers(
-                "/v3/api-docs/**",
-                "/swagger-ui/**",
-                "/swagger-ui.html",
-                "/h2-console/**",
-                "/api/auth/**"
-            ).permitAll()
-            .requestMatchers("/admin/**").hasRole("ADMIN")
+            // JwtAuthenticationFilter 와 동일한 경로 분류를 공유
+            .requestMatchers(SecurityRoutes.PUBLIC_PATTERNS).permitAll()
+            .requestMatchers("/admin/**", "/actuator/startup").hasRole("ADMIN")
+            .requestMatchers(SecurityRoutes.INTERNAL_PATTERNS).hasRole(ServiceAuthenticationFilter.SERVICE_ROLE)
             .anyRequest().authenticated() // hasRole("GENERAL")
         )
         .exceptionHandling(exceptions -> exceptions
             .authenticationEntryPoint(authenticationEntryPoint)  // 401 Unauthorized 처리
             .accessDeniedHandler(accessDeniedHandler)            // 403 Forbidden 처리
         )
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(serviceAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
   }
@@ -0,0 +1,115 @@
+package com.example.template.global.config;
+
+import com.example.template.global.datasource.ShardKeyGuardInterceptor;
+import com.example.template.global.datasource.ShardProperties;
+import com.example.template.global.datasource.ShardRouter;
+import com.example.template.global.datasource.ShardRoutingBeanPostProcessor;
+import com.example.template.global.datasource.ShardRoutingDataSource;
+import com.example.template.global.datasource.ShardSchemaInitializer;
+import com.example.template.global.datasource.ShardedIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * datasource.shards.enabled=true 일 때 datasource.shards.nodes 마다 커넥션 풀을 만들고
+ * users / refresh_tokens 접근을 이메일 해시 또는 userId 의 샤드 비트로 라우팅 (ShardRouter 참고)
+ * 풀 이름(shard-0, shard-1 ...)이 hikaricp.* 메트릭의 pool 태그가 된다
+ * replica 라우팅(DataSourceConfig)과 함께 켤 수 없다
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.shards.enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+  @Bean
+  public static ShardRoutingBeanPostProcessor shardRoutingBeanPostProcessor(ObjectProvider<ShardRouter> shardRouter) {
+    return new ShardRoutingBeanPostProcessor(shardRouter);
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.shards")
+  public ShardProperties shardProperties() {
+    return new ShardProperties();
+  }
+
+  @Bean
+  public ShardRouter shardRouter(ShardProperties shardProperties) {
+    return new ShardRouter(shardProperties.getNodes().size());
+  }
+
+  @Bean
+  public ShardRoutingDataSource shardRoutingDataSource(
+      ShardProperties shardProperties,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${datasource.replica.enabled:false}") boolean replicaEnabled) {
+    if (replicaEnabled) {
+      throw new IllegalStateException("[Shard] datasource.shards 와 datasource.replica 는 함께 사용할 수 없습니다.");
+    }
+
+    List<DataSourceProperties> nodes = shardProperties.getNodes();
+    Map<Object, Object> targets = new HashMap<>();
+    for (int shard = 0; shard < nodes.size(); shard++) {
+      HikariDataSource dataSource = nodes.get(shard).initializeDataSourceBuilder()
+          .type(HikariDataSource.class)
+          .build();
+      dataSource.setPoolName("shard-" + shard);
+      dataSource.setMaximumPoolSize(shardProperties.getMaximumPoolSize());
+      // 빈이 아닌 풀이라 hikaricp.* 메트릭을 직접 연결
+      meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+      targets.put(shard, dataSource);
+    }
+
+    ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+    routingDataSource.setTargetDataSources(targets);
+    routingDataSource.setDefaultTargetDataSource(targets.get(0));
+    routingDataSource.afterPropertiesSet();
+    return routingDataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+    // 샤드가 정해진 뒤(트랜잭션 안 첫 쿼리 시점)에 실제 커넥션을 얻도록 지연시킨다
+    return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+  }
+
+  /**
+   * 사용자 id 를 IDENTITY 대신 시퀀스 + 샤드 비트로 만들도록 전환 (ShardedIdGenerator)
+   */
+  @Bean
+  public HibernatePropertiesCustomizer shardedIdGeneratorCustomizer() {
+    return properties -> properties.put(ShardedIdGenerator.SHARDING_ENABLED, true);
+  }
+
+  /**
+   * 샤드 키인 이메일 변경 거부 (ShardKeyGuardInterceptor)
+   */
+  @Bean
+  public HibernatePropertiesCustomizer shardKeyGuardCustomizer() {
+    return properties -> properties.put(AvailableSettings.INTERCEPTOR, new ShardKeyGuardInterceptor());
+  }
+
+  @Bean
+  public ShardSchemaInitializer shardSchemaInitializer(
+      EntityManagerFactory entityManagerFactory,
+      ShardRouter shardRouter,
+      @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+    return new ShardSchemaInitializer(entityManagerFactory, shardRouter, ddlAuto);
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.template.global.config;
+
+import com.example.template.global.monitoring.ConnectionPoolAdvisor;
+import com.example.template.global.monitoring.jfr.JfrRecordingService;
+import com.example.template.global.security.service.JwtTokenProvider;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class StartupConfig {
+
+  /**
+   * spring.main.lazy-initialization=true(startup 프로필)에서도 기동 시 만들어야 하는 빈
+   * - DataSource/EntityManagerFactory, 보안 필터, JWT 키: 지연되면 첫 요청이 Hibernate 부트스트랩/키 준비 비용을 떠안는다
+   * - JfrRecordingService(@PostConstruct 로 기록 시작), ConnectionPoolAdvisor(@Scheduled): 지연되면 아예 동작하지 않는다
+   * - OpaqueTokenStore: off-heap 세션 테이블 할당 실패(MaxDirectMemorySize 부족)를 첫 로그인이 아니라 기동 시 드러낸다
+   * - JwtRevocationList: 폐기 목록 파일 열기/잠금 실패를 기동 시 드러내고, 재시작 전 폐기분을 첫 요청부터 적용한다
+   */
+  @Bean
+  public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+    return LazyInitializationExcludeFilter.forBeanTypes(
+        DataSource.class,
+        EntityManagerFactory.class,
+        SecurityFilterChain.class,
+        JwtTokenProvider.class,
+        JfrRecordingService.class,
+        ConnectionPoolAdvisor.class,
+        OpaqueTokenStore.class,
+        JwtRevocationList.class
+    );
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.template.global.datasource;
+
+/**
+ * 라우팅 DataSource 의 대상 풀
+ */
+public enum DataSourceRole {
+  PRIMARY, REPLICA
+}
@@ -0,0 +1,38 @@
+package com.example.template.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기(가입/로그인/재발급)를 한 사용자를 기록해 두고, 창(window) 동안 해당 사용자의 요청은 primary 에서 읽게 한다
+ * replica 라우팅이 꺼져 있으면 아무것도 기록하지 않는다
+ */
+@Component
+public class ReadYourWritesTracker {
+
+  private static final long MAX_TRACKED_USERS = 100_000;
+
+  private final Cache<Long, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(
+      @Value("${datasource.replica.enabled:false}") boolean replicaEnabled,
+      @Value("${datasource.replica.read-your-writes-window:5s}") Duration window) {
+    this.recentWriters = replicaEnabled
+        ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(MAX_TRACKED_USERS).build()
+        : null;
+  }
+
+  public void markWritten(Long userId) {
+    if (recentWriters != null && userId != null) {
+      recentWriters.put(userId, Boolean.TRUE);
+    }
+  }
+
+  public boolean recentlyWrote(Long userId) {
+    return recentWriters != null && userId != null && recentWriters.getIfPresent(userId) != null;
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.template.global.datasource;
+
+/**
+ * 현재 요청(스레드)의 읽기 전용 트랜잭션도 primary 로 보내도록 강제하는 컨텍스트
+ * 가입/로그인 직후처럼 복제 지연 동안 방금 쓴 데이터를 읽어야 할 때 사용한다
+ */
+public final class ReplicaRouting {
+
+  private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+  private ReplicaRouting() {
+  }
+
+  public static void forcePrimary() {
+    FORCE_PRIMARY.set(Boolean.TRUE);
+  }
+
+  public static boolean isPrimaryForced() {
+    return FORCE_PRIMARY.get() != null;
+  }
+
+  public static void clear() {
+    FORCE_PRIMARY.remove();
+  }
+}
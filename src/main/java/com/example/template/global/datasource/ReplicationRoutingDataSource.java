@@ -0,0 +1,19 @@
+package com.example.template.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외(쓰기, 트랜잭션 밖, read-your-writes 강제)는 primary 로 보낸다
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReplicaRouting.isPrimaryForced()) {
+      return DataSourceRole.REPLICA;
+    }
+    return DataSourceRole.PRIMARY;
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.template.global.datasource;
+
+/**
+ * 현재 스레드(트랜잭션)가 접근할 샤드 번호
+ * ShardRoutingInterceptor 가 리포지토리 호출 인자로 정하고, 트랜잭션이 끝나면 지운다
+ */
+public final class ShardContext {
+
+  private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+  private ShardContext() {
+  }
+
+  /**
+   * 지정되지 않았으면 null (라우팅 DataSource 는 0번 샤드를 사용)
+   */
+  public static Integer current() {
+    return CURRENT.get();
+  }
+
+  public static void bind(int shard) {
+    CURRENT.set(shard);
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+}
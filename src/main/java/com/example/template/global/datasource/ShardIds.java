@@ -0,0 +1,29 @@
+package com.example.template.global.datasource;
+
+/**
+ * 샤드 번호를 하위 비트에 담은 식별자 (local sequence << SHARD_BITS | shard)
+ * id 만으로 소유 샤드를 알 수 있어 findById, 토큰의 userId 조회가 바로 라우팅된다
+ * 샤딩을 켠 상태(ShardedIdGenerator 시퀀스 모드)에서 만든 id 에만 해당한다
+ * 샤딩을 켜지 않으면 id 는 IDENTITY 값이라 하위 비트가 샤드 번호가 아니다 (기존 데이터에서 샤딩을 켜려면 id 재발급이 필요)
+ */
+public final class ShardIds {
+
+  public static final int SHARD_BITS = 10;
+  public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+  private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+  private ShardIds() {
+  }
+
+  public static long compose(long localId, int shard) {
+    if (shard < 0 || shard >= MAX_SHARDS) {
+      throw new IllegalArgumentException("샤드 번호 범위 초과: " + shard);
+    }
+    return (localId << SHARD_BITS) | shard;
+  }
+
+  public static int shardOf(long id) {
+    return (int) (id & SHARD_MASK);
+  }
+}
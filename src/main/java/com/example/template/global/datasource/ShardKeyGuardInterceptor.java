@@ -0,0 +1,30 @@
+package com.example.template.global.datasource;
+
+import com.example.template.domain.user.entity.User;
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+import java.util.Objects;
+
+/**
+ * 샤딩 모드에서 User 의 이메일(신규 사용자의 샤드 키) 변경을 flush 시점에 거부
+ * 행은 가입 시 이메일 해시로 정한 샤드에 남아 있는데 findByEmail 은 새 이메일의 샤드로 가므로, 바꾸면 이메일로 찾을 수 없게 된다
+ * 이메일 변경을 지원하려면 새 샤드로 행과 리프레시 토큰을 옮기는 마이그레이션이 필요하다
+ */
+public class ShardKeyGuardInterceptor implements Interceptor {
+
+  private static final String EMAIL = "email";
+
+  @Override
+  public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+      String[] propertyNames, Type[] types) {
+    if (entity instanceof User && previousState != null) {
+      for (int i = 0; i < propertyNames.length; i++) {
+        if (EMAIL.equals(propertyNames[i]) && !Objects.equals(previousState[i], currentState[i])) {
+          throw new IllegalStateException("[Shard] 샤딩 모드에서는 사용자 이메일(샤드 키)을 변경할 수 없습니다: userId=" + id);
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.template.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.shards.* 설정, nodes 의 순서가 샤드 번호가 된다 (각 노드는 spring.datasource 와 같은 키 사용)
+ */
+@Getter
+@Setter
+public class ShardProperties {
+
+  private List<DataSourceProperties> nodes = new ArrayList<>();
+
+  /**
+   * 샤드 노드별 Hikari 최대 커넥션 수
+   */
+  private int maximumPoolSize = 10;
+}
@@ -0,0 +1,42 @@
+package com.example.template.global.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.CRC32C;
+
+/**
+ * 샤드 선택 규칙
+ * - 신규/이메일 조회: 정규화(trim, 소문자)한 이메일의 CRC32C 해시 % 샤드 수
+ * - userId 조회: id 하위 비트의 샤드 번호
+ * 이메일이 항상 같은 샤드로 가므로 샤드별 unique 인덱스만으로 전체 이메일 유일성이 보장된다
+ * 샤드 수를 바꾸면 이메일 → 샤드 매핑이 달라지므로 재분배(리샤딩) 없이 노드 수를 바꾸지 않는다
+ */
+public class ShardRouter {
+
+  private final int shardCount;
+
+  public ShardRouter(int shardCount) {
+    if (shardCount < 1 || shardCount > ShardIds.MAX_SHARDS) {
+      throw new IllegalArgumentException("샤드 수는 1~" + ShardIds.MAX_SHARDS + " 사이여야 합니다: " + shardCount);
+    }
+    this.shardCount = shardCount;
+  }
+
+  public int shardCount() {
+    return shardCount;
+  }
+
+  public int shardOfEmail(String email) {
+    CRC32C crc = new CRC32C();
+    crc.update(email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+    return (int) (crc.getValue() % shardCount);
+  }
+
+  public int shardOfUserId(long userId) {
+    int shard = ShardIds.shardOf(userId);
+    if (shard >= shardCount) {
+      throw new IllegalStateException("[Shard] 설정된 샤드 수(" + shardCount + ")를 벗어난 id 입니다: " + userId);
+    }
+    return shard;
+  }
+}
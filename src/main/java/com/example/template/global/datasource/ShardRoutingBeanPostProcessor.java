@@ -0,0 +1,35 @@
+package com.example.template.global.datasource;
+
+import com.example.template.domain.refreshtoken.repository.RefreshTokenRepository;
+import com.example.template.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * UserRepository / RefreshTokenRepository 프록시에 ShardRoutingInterceptor 를 추가
+ * 리포지토리 트랜잭션 인터셉터 안쪽에서 실행되어, 트랜잭션 시작 후 첫 커넥션 획득 전에 샤드가 정해진다
+ */
+public class ShardRoutingBeanPostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<ShardRouter> shardRouter;
+
+  public ShardRoutingBeanPostProcessor(ObjectProvider<ShardRouter> shardRouter) {
+    this.shardRouter = shardRouter;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+      factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+          (proxyFactory, repositoryInformation) -> {
+            Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+            if (repositoryInterface == UserRepository.class || repositoryInterface == RefreshTokenRepository.class) {
+              proxyFactory.addAdvice(new ShardRoutingInterceptor(
+                  shardRouter.getObject(), repositoryInterface == UserRepository.class));
+            }
+          }));
+    }
+    return bean;
+  }
+}
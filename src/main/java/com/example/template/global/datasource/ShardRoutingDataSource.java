@@ -0,0 +1,27 @@
+package com.example.template.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContext 의 샤드로 커넥션을 라우팅, 지정되지 않은 접근(기동 시 스키마/메타데이터 조회 등)은 0번 샤드로 보낸다
+ * 샤드가 트랜잭션 안의 첫 리포지토리 호출에서 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ShardContext.current();
+  }
+
+  /**
+   * 컨텍스트 종료 시 샤드별 커넥션 풀 정리
+   */
+  @Override
+  public void close() throws Exception {
+    for (Object dataSource : getResolvedDataSources().values()) {
+      if (dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+}
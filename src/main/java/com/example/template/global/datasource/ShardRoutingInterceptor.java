@@ -0,0 +1,104 @@
+package com.example.template.global.datasource;
+
+import com.example.template.domain.refreshtoken.entity.RefreshToken;
+import com.example.template.domain.user.entity.User;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * UserRepository / RefreshTokenRepository 호출 인자로 샤드를 정해 ShardContext 에 바인딩
+ * - User 엔티티: id 가 있으면 id, 없으면(신규) 이메일
+ * - RefreshToken 엔티티, *ByUserId: userId
+ * - *ByEmail: 이메일
+ * - UserRepository 의 id 기반 메서드(findById 등): userId
+ * - *ByUserIdIn: 모든 userId 가 같은 샤드여야 한다 (호출자가 ShardIds.shardOf 로 나눠서 호출)
+ * 인자로 샤드를 정할 수 없는 호출(findAll, deleteAll 등)은 이미 바인딩된 샤드 또는 0번 샤드에서 실행된다
+ * 트랜잭션 안에서 바인딩한 샤드는 트랜잭션이 끝날 때까지 유지하며, 다른 샤드 접근은 거부한다
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor {
+
+  private static final Set<String> USER_ID_METHODS = Set.of("findById", "existsById", "deleteById", "getReferenceById");
+
+  private final ShardRouter shardRouter;
+  private final boolean userRepository;
+
+  public ShardRoutingInterceptor(ShardRouter shardRouter, boolean userRepository) {
+    this.shardRouter = shardRouter;
+    this.userRepository = userRepository;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Integer shard = resolveShard(invocation.getMethod().getName(), invocation.getArguments());
+    if (shard == null) {
+      return invocation.proceed();
+    }
+
+    Integer bound = ShardContext.current();
+    if (bound != null) {
+      if (!bound.equals(shard)) {
+        throw new IllegalStateException("[Shard] 한 트랜잭션에서 여러 샤드에 접근할 수 없습니다: " + bound + " -> " + shard);
+      }
+      return invocation.proceed();
+    }
+
+    ShardContext.bind(shard);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          ShardContext.clear();
+        }
+      });
+      return invocation.proceed();
+    }
+    try {
+      return invocation.proceed();
+    } finally {
+      ShardContext.clear();
+    }
+  }
+
+  private Integer resolveShard(String methodName, Object[] arguments) {
+    if (arguments.length == 0 || arguments[0] == null) {
+      return null;
+    }
+    Object argument = arguments[0];
+    if (argument instanceof User user) {
+      return user.getUserId() != null
+          ? shardRouter.shardOfUserId(user.getUserId())
+          : shardRouter.shardOfEmail(user.getEmail());
+    }
+    if (argument instanceof RefreshToken refreshToken) {
+      return shardRouter.shardOfUserId(refreshToken.getUserId());
+    }
+    if (methodName.endsWith("ByEmail") && argument instanceof String email) {
+      return shardRouter.shardOfEmail(email);
+    }
+    if (methodName.endsWith("ByUserIdIn") && argument instanceof Collection<?> ids) {
+      return sameShardOf(ids);
+    }
+    if (argument instanceof Long id
+        && (methodName.endsWith("ByUserId") || (userRepository && USER_ID_METHODS.contains(methodName)))) {
+      return shardRouter.shardOfUserId(id);
+    }
+    return null;
+  }
+
+  private Integer sameShardOf(Collection<?> ids) {
+    Integer shard = null;
+    for (Object id : ids) {
+      int current = shardRouter.shardOfUserId((Long) id);
+      if (shard != null && shard != current) {
+        throw new IllegalStateException("[Shard] 여러 샤드의 id 를 한 번에 조회할 수 없습니다: " + shard + ", " + current);
+      }
+      shard = current;
+    }
+    return shard;
+  }
+}
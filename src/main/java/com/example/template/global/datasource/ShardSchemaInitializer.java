@@ -0,0 +1,41 @@
+package com.example.template.global.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * ddl-auto(create, create-drop) 는 기본(0번) 샤드에만 스키마를 만들므로 나머지 샤드에도 같은 스키마를 만든다
+ * 운영(ddl-auto=none)에서는 샤드마다 같은 마이그레이션을 직접 적용한다
+ */
+@Slf4j
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final ShardRouter shardRouter;
+  private final String ddlAuto;
+
+  public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, ShardRouter shardRouter, String ddlAuto) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.shardRouter = shardRouter;
+    this.ddlAuto = ddlAuto;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (!"create".equals(ddlAuto) && !"create-drop".equals(ddlAuto)) {
+      return;
+    }
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    for (int shard = 1; shard < shardRouter.shardCount(); shard++) {
+      ShardContext.bind(shard);
+      try {
+        sessionFactory.getSchemaManager().exportMappedObjects(true);
+        log.info("[Shard] 스키마 생성 완료, shard={}", shard);
+      } finally {
+        ShardContext.clear();
+      }
+    }
+  }
+}
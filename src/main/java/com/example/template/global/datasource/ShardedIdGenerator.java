@@ -0,0 +1,81 @@
+package com.example.template.global.datasource;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.EnumSet;
+import java.util.Properties;
+
+/**
+ * 샤딩을 켜지 않으면 IDENTITY(auto increment) 그대로, 켜면 현재 샤드의 시퀀스 값에 샤드 번호를 하위 비트로 붙인 id (ShardIds 참고)
+ * <p>
+ * - 모드는 기동 시 Hibernate 설정 SHARDING_ENABLED(ShardDataSourceConfig 가 넣는다)로 한 번 정한다
+ * - 샤딩 모드에서만 시퀀스(users_seq)를 스키마에 등록하므로, 샤딩을 켜지 않은 기존 DB 에는 시퀀스가 필요 없다
+ * - 시퀀스 블록을 샤드 구분 없이 캐시하면 샤드 간에 값이 섞이므로 increment_size=1(옵티마이저 없음)로 사용한다
+ * IDENTITY 로 만든 기존 id 는 하위 비트가 샤드 번호가 아니므로, 데이터가 있는 DB 에서 샤딩을 켜려면 id 재발급 마이그레이션이 먼저 필요하다
+ */
+public class ShardedIdGenerator extends IdentityGenerator implements IdentifierGenerator {
+
+  public static final String NAME = "sharded-id";
+
+  /**
+   * true 면 시퀀스 + 샤드 비트, 없거나 false 면 IDENTITY
+   */
+  public static final String SHARDING_ENABLED = "template.datasource.shards.enabled";
+
+  private final SequenceStyleGenerator sequence = new SequenceStyleGenerator();
+  private boolean sharded;
+
+  @Override
+  public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+    sharded = serviceRegistry.getService(ConfigurationService.class)
+        .getSetting(SHARDING_ENABLED, StandardConverters.BOOLEAN, false);
+    if (sharded) {
+      sequence.configure(type, params, serviceRegistry);
+    }
+  }
+
+  @Override
+  public void registerExportables(Database database) {
+    if (sharded) {
+      sequence.registerExportables(database);
+    }
+  }
+
+  @Override
+  public void initialize(SqlStringGenerationContext context) {
+    if (sharded) {
+      sequence.initialize(context);
+    }
+  }
+
+  /**
+   * true 면 insert 후 DB 가 만든 값을 읽고(IDENTITY), false 면 insert 전에 generate 로 만든다
+   */
+  @Override
+  public boolean generatedOnExecution() {
+    return !sharded;
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object object) {
+    long localId = ((Number) sequence.generate(session, object)).longValue();
+    Integer shard = ShardContext.current();
+    return ShardIds.compose(localId, shard == null ? 0 : shard);
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.template.global.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 내부 동작(JWT 서명/검증, 비밀번호 해시, 필터 결과, 로그인/재발급/가입 결과) 메트릭
+ * 요청마다 호출되는 타이머/카운터는 기동 시 미리 등록해 두고 레지스트리 조회 없이 기록한다
+ */
+@Component
+public class AuthMetrics {
+
+  public static final String JWT_SIGN = "auth.jwt.sign";
+  public static final String JWT_VERIFY = "auth.jwt.verify";
+  public static final String PASSWORD_ENCODE = "auth.password.encode";
+  public static final String PASSWORD_MATCH = "auth.password.match";
+  public static final String FILTER = "auth.filter";
+  public static final String OPERATION = "auth.operation";
+
+  public static final String SIGN_UP = "signup";
+  public static final String LOGIN = "login";
+  public static final String REFRESH = "refresh";
+
+  /**
+   * JwtAuthenticationFilter 처리 결과
+   */
+  public enum FilterOutcome {
+    AUTHENTICATED, NO_TOKEN, EXPIRED_TOKEN, INVALID_TOKEN, REVOKED_TOKEN, USER_MISMATCH, ERROR;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String tag() {
+      return tag;
+    }
+  }
+
+  /**
+   * 토큰 검증 결과
+   */
+  public enum VerifyResult {
+    VALID, EXPIRED, INVALID;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String tag() {
+      return tag;
+    }
+  }
+
+  private final MeterRegistry meterRegistry;
+  private final Timer signAccess;
+  private final Timer signRefresh;
+  private final Map<VerifyResult, Timer> verifyTimers = new EnumMap<>(VerifyResult.class);
+  private final Timer passwordEncode;
+  private final Timer passwordMatched;
+  private final Timer passwordMismatched;
+  private final Map<FilterOutcome, Counter> filterCounters = new EnumMap<>(FilterOutcome.class);
+
+  public AuthMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.signAccess = Timer.builder(JWT_SIGN).description("JWT 서명 시간").tag("type", "access")
+        .register(meterRegistry);
+    this.signRefresh = Timer.builder(JWT_SIGN).description("JWT 서명 시간").tag("type", "refresh")
+        .register(meterRegistry);
+    for (VerifyResult result : VerifyResult.values()) {
+      verifyTimers.put(result, Timer.builder(JWT_VERIFY).description("JWT 파싱/서명 검증 시간")
+          .tag("result", result.tag()).register(meterRegistry));
+    }
+    this.passwordEncode = Timer.builder(PASSWORD_ENCODE).description("비밀번호/리프레시 토큰 해시 시간")
+        .register(meterRegistry);
+    this.passwordMatched = Timer.builder(PASSWORD_MATCH).description("해시 비교 시간")
+        .tag("result", "match").register(meterRegistry);
+    this.passwordMismatched = Timer.builder(PASSWORD_MATCH).description("해시 비교 시간")
+        .tag("result", "mismatch").register(meterRegistry);
+    for (FilterOutcome outcome : FilterOutcome.values()) {
+      filterCounters.put(outcome, Counter.builder(FILTER).description("JWT 필터 처리 결과")
+          .tag("outcome", outcome.tag()).register(meterRegistry));
+    }
+  }
+
+  /**
+   * 레지스트리 없이 생성하는 경우(단위 테스트, 벤치마크)용 기록하지 않는 인스턴스
+   */
+  public static AuthMetrics noop() {
+    return new AuthMetrics(new CompositeMeterRegistry());
+  }
+
+  public void recordJwtSign(boolean refreshToken, long startNanos) {
+    (refreshToken ? signRefresh : signAccess).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordJwtVerify(VerifyResult result, long startNanos) {
+    verifyTimers.get(result).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordPasswordEncode(long startNanos) {
+    passwordEncode.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordPasswordMatch(boolean matched, long startNanos) {
+    (matched ? passwordMatched : passwordMismatched).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void filterOutcome(FilterOutcome outcome) {
+    filterCounters.get(outcome).increment();
+  }
+
+  /**
+   * 로그인/재발급/가입 성공
+   */
+  public void authSuccess(String operation) {
+    meterRegistry.counter(OPERATION, "operation", operation, "result", "success", "reason", "none").increment();
+  }
+
+  /**
+   * 로그인/재발급/가입 실패, reason 은 고정된 값만 사용 (태그 카디널리티 제한)
+   */
+  public void authFailure(String operation, String reason) {
+    meterRegistry.counter(OPERATION, "operation", operation, "result", "failure", "reason", reason).increment();
+  }
+}
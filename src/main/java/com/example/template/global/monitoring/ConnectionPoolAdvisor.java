@@ -0,0 +1,147 @@
+package com.example.template.global.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hikaricp.* 메트릭을 주기적으로 비교해 풀별 권장 크기를 계산하고 로그/게이지(db.pool.recommended.size)로 남긴다
+ * <p>
+ * 구간 동안 커넥션을 쥐고 있던 평균 개수(사용 시간 합 / 구간)와 기다리던 평균 개수(획득 대기 시간 합 / 구간)를 더한 값이
+ * 실제 필요한 동시 커넥션 수이고(Little's law), 여기에 목표 사용률(target-utilization)만큼 여유를 둔 값을 권장한다
+ * 대기 시간이 사용 시간의 wait-ratio-warn 배를 넘거나 타임아웃이 나면 WARN 으로 남긴다
+ */
+@Slf4j
+@Component
+public class ConnectionPoolAdvisor {
+
+  public static final String RECOMMENDED_METRIC = "db.pool.recommended.size";
+
+  private static final String ACQUIRE = "hikaricp.connections.acquire";
+  private static final String USAGE = "hikaricp.connections.usage";
+  private static final String MAX = "hikaricp.connections.max";
+  private static final String TIMEOUT = "hikaricp.connections.timeout";
+  private static final String POOL_TAG = "pool";
+
+  private final MeterRegistry meterRegistry;
+  private final double targetUtilization;
+  private final double waitRatioWarn;
+  private final int maxRecommendation;
+
+  private final Map<String, Snapshot> previous = new ConcurrentHashMap<>();
+  private final Map<String, Integer> recommended = new ConcurrentHashMap<>();
+
+  public ConnectionPoolAdvisor(MeterRegistry meterRegistry,
+      @Value("${monitoring.pool-advisor.target-utilization:0.7}") double targetUtilization,
+      @Value("${monitoring.pool-advisor.wait-ratio-warn:0.2}") double waitRatioWarn,
+      @Value("${monitoring.pool-advisor.max-recommendation:50}") int maxRecommendation) {
+    this.meterRegistry = meterRegistry;
+    this.targetUtilization = targetUtilization;
+    this.waitRatioWarn = waitRatioWarn;
+    this.maxRecommendation = maxRecommendation;
+  }
+
+  @Scheduled(initialDelayString = "${monitoring.pool-advisor.interval:60s}",
+      fixedDelayString = "${monitoring.pool-advisor.interval:60s}")
+  public void run() {
+    for (Advice advice : advise()) {
+      if (advice.starving()) {
+        log.warn("[PoolAdvisor] 커넥션 대기 과다 pool={}, max={}, 권장={}, 평균 대기={}ms, 평균 사용={}ms, 타임아웃={}",
+            advice.pool(), advice.currentMax(), advice.recommendedSize(),
+            format(advice.acquireMeanMs()), format(advice.usageMeanMs()), advice.timeouts());
+      } else if (advice.recommendedSize() != advice.currentMax()) {
+        log.info("[PoolAdvisor] 풀 크기 조정 권장 pool={}, max={}, 권장={}, 평균 대기={}ms, 평균 사용={}ms",
+            advice.pool(), advice.currentMax(), advice.recommendedSize(),
+            format(advice.acquireMeanMs()), format(advice.usageMeanMs()));
+      }
+    }
+  }
+
+  /**
+   * 직전 호출 이후 구간으로 풀별 권장 크기 계산 (첫 호출은 기준점만 기록하고, 커넥션 사용이 없던 풀은 건너뛴다)
+   */
+  public List<Advice> advise() {
+    long now = meterRegistry.config().clock().monotonicTime();
+    List<Advice> advices = new ArrayList<>();
+    for (Timer usage : meterRegistry.find(USAGE).timers()) {
+      String pool = usage.getId().getTag(POOL_TAG);
+      if (pool == null) {
+        continue;
+      }
+      Snapshot current = snapshot(pool, usage, now);
+      Snapshot last = previous.put(pool, current);
+      if (last == null || current.usageCount() == last.usageCount()) {
+        continue;
+      }
+      Advice advice = compare(pool, last, current);
+      recommended.put(pool, advice.recommendedSize());
+      Gauge.builder(RECOMMENDED_METRIC, recommended, values -> values.getOrDefault(pool, 0))
+          .description("커넥션 풀 권장 크기")
+          .tag(POOL_TAG, pool)
+          .register(meterRegistry);
+      advices.add(advice);
+    }
+    return advices;
+  }
+
+  private Snapshot snapshot(String pool, Timer usage, long now) {
+    Timer acquire = meterRegistry.find(ACQUIRE).tag(POOL_TAG, pool).timer();
+    Gauge max = meterRegistry.find(MAX).tag(POOL_TAG, pool).gauge();
+    Counter timeout = meterRegistry.find(TIMEOUT).tag(POOL_TAG, pool).counter();
+    return new Snapshot(
+        now,
+        usage.count(),
+        usage.totalTime(TimeUnit.NANOSECONDS),
+        acquire == null ? 0 : acquire.count(),
+        acquire == null ? 0 : acquire.totalTime(TimeUnit.NANOSECONDS),
+        max == null ? 0 : (int) max.value(),
+        timeout == null ? 0 : (long) timeout.count());
+  }
+
+  private Advice compare(String pool, Snapshot last, Snapshot current) {
+    double interval = Math.max(1, current.time() - last.time());
+    double usageNanos = current.usageNanos() - last.usageNanos();
+    double acquireNanos = current.acquireNanos() - last.acquireNanos();
+    long usageCount = current.usageCount() - last.usageCount();
+    long acquireCount = current.acquireCount() - last.acquireCount();
+    long timeouts = current.timeouts() - last.timeouts();
+
+    // 구간 평균 동시 사용 + 동시 대기 = 대기 없이 처리하려면 필요한 커넥션 수
+    double demand = (usageNanos + acquireNanos) / interval;
+    int size = (int) Math.ceil(demand / targetUtilization);
+    size = Math.max(2, Math.min(maxRecommendation, size));
+
+    double usageMeanMs = usageNanos / usageCount / 1_000_000.0;
+    double acquireMeanMs = acquireCount == 0 ? 0 : acquireNanos / acquireCount / 1_000_000.0;
+    boolean starving = timeouts > 0 || acquireMeanMs > usageMeanMs * waitRatioWarn;
+    return new Advice(pool, current.max(), size, acquireMeanMs, usageMeanMs, timeouts, starving);
+  }
+
+  private static String format(double millis) {
+    return String.format("%.2f", millis);
+  }
+
+  private record Snapshot(long time, long usageCount, double usageNanos, long acquireCount, double acquireNanos,
+                          int max, long timeouts) {
+  }
+
+  /**
+   * 풀 1개의 진단 결과
+   *
+   * @param starving 획득 대기가 사용 시간 대비 길거나 타임아웃이 발생함
+   */
+  public record Advice(String pool, int currentMax, int recommendedSize, double acquireMeanMs,
+                       double usageMeanMs, long timeouts, boolean starving) {
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.template.global.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 1건에서 실행된 SQL 문 수를 uri 템플릿별 분포(db.queries.per.request)로 기록
+ * 인증 필터의 DB 조회까지 포함하도록 시큐리티 필터 체인보다 앞에서 실행한다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+  public static final String METRIC_NAME = "db.queries.per.request";
+
+  private final MeterRegistry meterRegistry;
+  private final long warnThreshold;
+
+  public SqlStatementCountFilter(MeterRegistry meterRegistry,
+      @Value("${monitoring.sql.per-request-warn-threshold:10}") long warnThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.warnThreshold = warnThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    SqlStatementCounter.reset();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      long statements = SqlStatementCounter.current();
+      String uri = uriTemplate(request);
+      DistributionSummary.builder(METRIC_NAME)
+          .description("요청당 SQL 문 수")
+          .tag("uri", uri)
+          .register(meterRegistry)
+          .record(statements);
+      if (statements > warnThreshold) {
+        log.warn("[SQL] 요청당 쿼리 수 초과 uri={}, statements={}", uri, statements);
+      }
+    }
+  }
+
+  private static String uriTemplate(HttpServletRequest request) {
+    // 매핑된 핸들러 패턴만 태그로 사용해 경로 변수/미매핑 경로로 카디널리티가 늘어나지 않게 한다
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null ? "UNKNOWN" : pattern.toString();
+  }
+}
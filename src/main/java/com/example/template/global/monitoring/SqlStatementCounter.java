@@ -0,0 +1,26 @@
+package com.example.template.global.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 현재 스레드 기준으로 센다
+ * 요청 단위 쿼리 수(SqlStatementCountFilter)와 테스트의 쿼리 수 검증에 사용
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+
+  public static void reset() {
+    COUNT.get()[0] = 0;
+  }
+
+  public static long current() {
+    return COUNT.get()[0];
+  }
+}
@@ -0,0 +1,45 @@
+package com.example.template.global.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기동 완료 시 time-to-ready 와, 단계 기록 중이면(StartupTracing) 가장 오래 걸린 기동 단계를 로그로 남긴다
+ */
+@Slf4j
+@Component
+public class StartupStepReporter {
+
+  private final int topSteps;
+
+  public StartupStepReporter(@Value("${monitoring.startup.top-steps:15}") int topSteps) {
+    this.topSteps = topSteps;
+  }
+
+  @EventListener
+  public void onReady(ApplicationReadyEvent event) {
+    log.info("[Startup] time-to-ready={}ms", event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis());
+
+    ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+    if (!(startup instanceof BufferingApplicationStartup buffering)) {
+      return;
+    }
+    List<StartupTimeline.TimelineEvent> slowest = buffering.getBufferedTimeline().getEvents().stream()
+        .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+        .limit(topSteps)
+        .toList();
+    for (StartupTimeline.TimelineEvent step : slowest) {
+      log.info("[Startup] {}ms {} {}", step.getDuration().toMillis(), step.getStartupStep().getName(),
+          step.getStartupStep().getTags());
+    }
+  }
+}
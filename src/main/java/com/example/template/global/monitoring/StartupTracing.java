@@ -0,0 +1,39 @@
+package com.example.template.global.monitoring;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+import java.util.Arrays;
+
+/**
+ * startup 프로필(또는 STARTUP_TRACE=true)로 기동하면 BufferingApplicationStartup 으로 기동 단계를 기록
+ * ApplicationStartup 은 프로필이 정해지기 전에 지정해야 하므로 인자/시스템 프로퍼티/환경 변수에서 직접 판단한다
+ * 기록된 단계는 /actuator/startup (ADMIN) 과 StartupStepReporter 로그로 확인한다
+ */
+public final class StartupTracing {
+
+  public static final String PROFILE = "startup";
+  private static final int CAPACITY = 4096;
+  private static final String PROFILES_ARG = "--spring.profiles.active=";
+
+  private StartupTracing() {
+  }
+
+  public static void configure(SpringApplication application, String[] args) {
+    if (enabled(args)) {
+      application.setApplicationStartup(new BufferingApplicationStartup(CAPACITY));
+    }
+  }
+
+  static boolean enabled(String[] args) {
+    if (Boolean.parseBoolean(System.getProperty("startup.trace", System.getenv("STARTUP_TRACE")))) {
+      return true;
+    }
+    String profiles = Arrays.stream(args)
+        .filter(arg -> arg.startsWith(PROFILES_ARG))
+        .map(arg -> arg.substring(PROFILES_ARG.length()))
+        .findFirst()
+        .orElse(System.getProperty("spring.profiles.active", System.getenv("SPRING_PROFILES_ACTIVE")));
+    return profiles != null && Arrays.stream(profiles.split(",")).map(String::trim).anyMatch(PROFILE::equals);
+  }
+}
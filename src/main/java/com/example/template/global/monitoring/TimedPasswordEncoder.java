@@ -0,0 +1,46 @@
+package com.example.template.global.monitoring;
+
+import com.example.template.global.monitoring.jfr.PasswordHashEvent;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시/비교 시간을 AuthMetrics 와 JFR(PasswordHashEvent)에 기록하는 PasswordEncoder 래퍼
+ * 로그인 시 DaoAuthenticationProvider 의 비밀번호 비교와 리프레시 토큰 해시 모두 이 빈을 거친다
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final AuthMetrics authMetrics;
+
+  public TimedPasswordEncoder(PasswordEncoder delegate, AuthMetrics authMetrics) {
+    this.delegate = delegate;
+    this.authMetrics = authMetrics;
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    PasswordHashEvent event = new PasswordHashEvent();
+    event.begin();
+    long start = System.nanoTime();
+    String encoded = delegate.encode(rawPassword);
+    authMetrics.recordPasswordEncode(start);
+    event.finish("encode", "encoded");
+    return encoded;
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    PasswordHashEvent event = new PasswordHashEvent();
+    event.begin();
+    long start = System.nanoTime();
+    boolean matched = delegate.matches(rawPassword, encodedPassword);
+    authMetrics.recordPasswordMatch(matched, start);
+    event.finish("match", matched ? "match" : "mismatch");
+    return matched;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.template.global.monitoring.jfr;
+
+import com.example.template.global.common.util.ApiResult;
+import com.example.template.global.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@Tag(name = "운영", description = "운영/진단 API (ADMIN 권한 필요)")
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+public class JfrAdminController {
+
+  private final JfrRecordingService jfrRecordingService;
+
+  @Operation(summary = "JFR 기록 덤프", description = "실행 중인 JFR 기록의 스냅샷을 .jfr 파일로 내려받습니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "덤프 성공", content = @Content(mediaType = "application/octet-stream")),
+      @ApiResponse(responseCode = "401", description = "인증이 필요합니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class))),
+      @ApiResponse(responseCode = "409", description = "실행 중인 JFR 기록이 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResult.class)))
+  })
+  @GetMapping("/recording")
+  public ResponseEntity<StreamingResponseBody> dumpRecording(
+      @AuthenticationPrincipal UserPrincipal userPrincipal) throws IOException {
+
+    Path file = jfrRecordingService.dumpSnapshot();
+    long size = Files.size(file);
+    log.info("[JFR] 기록 덤프 userId={}, bytes={}", userPrincipal.getUserId(), size);
+
+    StreamingResponseBody body = outputStream -> {
+      try {
+        Files.copy(file, outputStream);
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    };
+
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .contentLength(size)
+        .body(body);
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.template.global.monitoring.jfr;
+
+/**
+ * 커스텀 JFR 이벤트 공통 상수
+ */
+final class JfrEvents {
+
+  static final String CATEGORY = "MVC Template";
+  static final String NAME_PREFIX = "com.example.template.";
+
+  private JfrEvents() {
+  }
+}
@@ -0,0 +1,112 @@
+package com.example.template.global.monitoring.jfr;
+
+import com.example.template.global.common.exception.ApiException;
+import com.example.template.global.common.exception.ErrorMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상시 JFR 기록(monitoring.jfr.continuous=true) 관리와 요청 시 스냅샷 덤프
+ * -XX:StartFlightRecording 으로 JVM 옵션에서 시작한 기록도 스냅샷에 함께 포함된다
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+  public static final String SETTINGS_RESOURCE = "jfr/template.jfc";
+  private static final String RECORDING_NAME = "template-continuous";
+
+  private final boolean continuous;
+  private final Duration maxAge;
+  private final DataSize maxSize;
+
+  private Recording recording;
+
+  public JfrRecordingService(
+      @Value("${monitoring.jfr.continuous:false}") boolean continuous,
+      @Value("${monitoring.jfr.max-age:30m}") Duration maxAge,
+      @Value("${monitoring.jfr.max-size:100MB}") DataSize maxSize) {
+    this.continuous = continuous;
+    this.maxAge = maxAge;
+    this.maxSize = maxSize;
+  }
+
+  @PostConstruct
+  void start() throws IOException, ParseException {
+    if (!continuous) {
+      return;
+    }
+    if (!FlightRecorder.isAvailable()) {
+      log.warn("[JFR] 이 JVM 에서는 Flight Recorder 를 사용할 수 없어 상시 기록을 시작하지 않습니다.");
+      return;
+    }
+    recording = new Recording(settings());
+    recording.setName(RECORDING_NAME);
+    recording.setToDisk(true);
+    recording.setMaxAge(maxAge);
+    recording.setMaxSize(maxSize.toBytes());
+    recording.start();
+    log.info("[JFR] 상시 기록 시작 maxAge={}, maxSize={}", maxAge, maxSize);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  /**
+   * 실행 중인 모든 기록의 스냅샷을 임시 파일로 덤프 (호출자가 파일 삭제)
+   */
+  public Path dumpSnapshot() throws IOException {
+    if (!FlightRecorder.isAvailable()) {
+      throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.JFR_RECORDING_NOT_RUNNING);
+    }
+    try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+      if (snapshot.getSize() == 0) {
+        throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.JFR_RECORDING_NOT_RUNNING);
+      }
+      Path file = Files.createTempFile("template-", ".jfr");
+      try {
+        snapshot.dump(file);
+      } catch (IOException e) {
+        Files.deleteIfExists(file);
+        throw e;
+      }
+      return file;
+    }
+  }
+
+  /**
+   * JDK default 설정 위에 커스텀 이벤트 설정(jfr/template.jfc)을 덮어쓴다
+   */
+  static Map<String, String> settings() throws IOException, ParseException {
+    Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+    try (Reader reader = new InputStreamReader(
+        new ClassPathResource(SETTINGS_RESOURCE).getInputStream(), StandardCharsets.UTF_8)) {
+      settings.putAll(Configuration.create(reader).getSettings());
+    }
+    return settings;
+  }
+}
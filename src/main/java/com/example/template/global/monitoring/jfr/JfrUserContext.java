@@ -0,0 +1,40 @@
+package com.example.template.global.monitoring.jfr;
+
+import com.example.template.global.security.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 호출 지점에서 userId 를 직접 넘길 수 없는 이벤트(RepositoryCallEvent, PasswordHashEvent)가 쓰는 현재 사용자
+ * - 가입/로그인/재발급은 인증 전이라, AuthServiceImpl 이 사용자를 확인한 뒤 set 으로 알려 주고 끝나면 clear 한다
+ * - 그 밖의 요청은 인증 필터가 넣은 UserPrincipal 의 userId
+ * 어느 쪽도 없으면(가입 중복 확인, 로그인 비밀번호 비교 등 사용자를 아직 모르는 구간) 0
+ */
+public final class JfrUserContext {
+
+  private static final ThreadLocal<Long> USER_ID = new ThreadLocal<>();
+
+  private JfrUserContext() {
+  }
+
+  public static void set(Long userId) {
+    USER_ID.set(userId);
+  }
+
+  public static void clear() {
+    USER_ID.remove();
+  }
+
+  static long currentUserId() {
+    Long userId = USER_ID.get();
+    if (userId != null) {
+      return userId;
+    }
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+        && principal.getUserId() != null) {
+      return principal.getUserId();
+    }
+    return 0L;
+  }
+}
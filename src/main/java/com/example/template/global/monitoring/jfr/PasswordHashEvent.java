@@ -0,0 +1,39 @@
+package com.example.template.global.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 비밀번호/리프레시 토큰 해시 또는 비교 1회
+ * PasswordEncoder 는 사용자를 모르므로 userId 는 JfrUserContext 에서 읽는다 (로그인 비밀번호 비교처럼 사용자 확인 전이면 0)
+ */
+@Name(JfrEvents.NAME_PREFIX + "PasswordHash")
+@Label("Password Hash")
+@Category({JfrEvents.CATEGORY, "Auth"})
+@Description("PasswordEncoder encode/matches")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("User ID")
+  long userId;
+
+  public void finish(String operation, String outcome) {
+    end();
+    if (shouldCommit()) {
+      this.operation = operation;
+      this.outcome = outcome;
+      this.userId = JfrUserContext.currentUserId();
+      commit();
+    }
+  }
+}
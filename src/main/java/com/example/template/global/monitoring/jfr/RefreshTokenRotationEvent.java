@@ -0,0 +1,40 @@
+package com.example.template.global.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 리프레시 토큰 재발급(검증 → 조회 → 비교 → 재서명 → 저장) 전체 구간
+ */
+@Name(JfrEvents.NAME_PREFIX + "RefreshTokenRotation")
+@Label("Refresh Token Rotation")
+@Category({JfrEvents.CATEGORY, "Auth"})
+@Description("리프레시 토큰 재발급")
+@StackTrace(false)
+public class RefreshTokenRotationEvent extends Event {
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("User ID")
+  long userId;
+
+  /**
+   * 토큰에서 userId 를 읽은 시점에 기록 (이후 단계에서 실패해도 사용자 식별 가능)
+   */
+  public void setUserId(Long userId) {
+    this.userId = userId == null ? 0L : userId;
+  }
+
+  public void finish(String outcome) {
+    end();
+    if (shouldCommit()) {
+      this.outcome = outcome;
+      commit();
+    }
+  }
+}
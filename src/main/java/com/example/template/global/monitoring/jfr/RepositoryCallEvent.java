@@ -0,0 +1,41 @@
+package com.example.template.global.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Spring Data 리포지토리 메서드 호출 1회 (호출 위치 확인을 위해 스택트레이스 포함)
+ * userId 는 findById/findByUserId/deleteByUserId 의 Long 인자, 없으면 JfrUserContext (모르면 0)
+ */
+@Name(JfrEvents.NAME_PREFIX + "RepositoryCall")
+@Label("Repository Call")
+@Category({JfrEvents.CATEGORY, "Persistence"})
+@Description("Spring Data 리포지토리 메서드 호출")
+public class RepositoryCallEvent extends Event {
+
+  @Label("Repository")
+  String repository;
+
+  @Label("Method")
+  String method;
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("User ID")
+  long userId;
+
+  public void finish(String repository, String method, String outcome, long userId) {
+    end();
+    if (shouldCommit()) {
+      this.repository = repository;
+      this.method = method;
+      this.outcome = outcome;
+      this.userId = userId;
+      commit();
+    }
+  }
+}
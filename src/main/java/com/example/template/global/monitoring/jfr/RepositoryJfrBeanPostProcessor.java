@@ -0,0 +1,62 @@
+package com.example.template.global.monitoring.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 모든 Spring Data 리포지토리 프록시에 RepositoryCallEvent 를 기록하는 인터셉터를 추가
+ * (AuthServiceImpl, JwtAuthenticationFilter 의 DB 조회 포함)
+ */
+@Component
+public class RepositoryJfrBeanPostProcessor implements BeanPostProcessor {
+
+  /**
+   * 첫 번째 Long 인자가 userId 인 메서드 (findById 는 id 가 곧 userId 인 UserRepository 만)
+   */
+  private static final Set<String> USER_ID_METHODS = Set.of("findByUserId", "deleteByUserId");
+  private static final String USER_REPOSITORY = "UserRepository";
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+      factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+          (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+              new RepositoryCallInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+    }
+    return bean;
+  }
+
+  private record RepositoryCallInterceptor(String repository) implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      RepositoryCallEvent event = new RepositoryCallEvent();
+      event.begin();
+      String outcome = "error";
+      try {
+        Object result = invocation.proceed();
+        outcome = "success";
+        return result;
+      } finally {
+        String method = invocation.getMethod().getName();
+        // 이벤트가 꺼져 있으면 SecurityContext 조회도 하지 않는다
+        long userId = event.isEnabled() ? userId(method, invocation.getArguments()) : 0L;
+        event.finish(repository, method, outcome, userId);
+      }
+    }
+
+    private long userId(String method, Object[] arguments) {
+      boolean userIdArgument = USER_ID_METHODS.contains(method)
+          || ("findById".equals(method) && USER_REPOSITORY.equals(repository));
+      if (userIdArgument && arguments.length > 0 && arguments[0] instanceof Long userId) {
+        return userId;
+      }
+      return JfrUserContext.currentUserId();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.template.global.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 파싱/서명 검증 1회
+ */
+@Name(JfrEvents.NAME_PREFIX + "TokenVerification")
+@Label("Token Verification")
+@Category({JfrEvents.CATEGORY, "Auth"})
+@Description("JWT 파싱/서명 검증")
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("User ID")
+  long userId;
+
+  public void finish(String outcome, long userId) {
+    end();
+    if (shouldCommit()) {
+      this.outcome = outcome;
+      this.userId = userId;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.template.global.security;
+
+import com.example.template.global.security.service.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 다른 서비스가 토큰을 로컬에서 검증할 수 있도록 현재/이전 공개 키를 JWKS(RFC 7517) 형식으로 공개
+ * 표준 형식이라 ApiResult 로 감싸지 않는다 (HS256 이면 keys 가 비어 있다)
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "인증", description = "토큰 검증용 공개 키")
+public class JwksController {
+
+  /**
+   * 검증 측 캐시 시간 (키 교체 시 새 키를 서명에 쓰기 전에 이 시간 이상 먼저 공개해 둔다)
+   */
+  private static final CacheControl JWKS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+  private final JwtKeyRing jwtKeyRing;
+
+  @Operation(summary = "JWKS 조회", description = "액세스 토큰 서명 검증용 공개 키 목록을 반환합니다. 토큰 헤더의 kid 로 키를 찾습니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "공개 키 조회 성공")
+  })
+  @GetMapping(SecurityRoutes.JWKS_PATH)
+  public ResponseEntity<Map<String, Object>> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(JWKS_CACHE_CONTROL)
+        .body(Map.of("keys", jwtKeyRing.publicJwks()));
+  }
+}
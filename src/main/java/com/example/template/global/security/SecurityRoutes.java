@@ -0,0 +1,153 @@
+package com.example.template.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.cors.CorsUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SecurityConfig 와 JwtAuthenticationFilter 가 공유하는 경로 분류
+ * permitAll 경로는 기동 시 prefix/exact 테이블로 미리 컴파일해 요청마다 패턴 파싱 없이 판별한다
+ */
+public final class SecurityRoutes {
+
+  /**
+   * 토큰 검증용 공개 키 (JwksController)
+   */
+  public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+  /**
+   * 인증 없이 접근 가능한 경로 (SecurityConfig permitAll)
+   */
+  public static final String[] PUBLIC_PATTERNS = {
+      "/v3/api-docs/**",
+      "/swagger-ui/**",
+      "/swagger-ui.html",
+      "/openapi/**",
+      "/h2-console/**",
+      "/api/auth/**",
+      JWKS_PATH,
+      // 운영에서는 management.server.port 로 내부망에만 노출
+      "/actuator/health",
+      "/actuator/health/**",
+      "/actuator/prometheus"
+  };
+
+  /**
+   * permitAll 경로지만 토큰이 있으면 인증 정보를 사용해야 하는 경로 (로그아웃은 principal 필요)
+   */
+  public static final String[] TOKEN_AWARE_PATTERNS = {
+      "/api/auth/logout"
+  };
+
+  /**
+   * 내부 서비스 전용 경로 (사용자 JWT 대신 ServiceAuthenticationFilter 의 서비스 키로 인증, SecurityConfig hasRole SERVICE)
+   */
+  public static final String[] INTERNAL_PATTERNS = {
+      "/internal/**"
+  };
+
+  private static final RouteTable PUBLIC_ROUTES = RouteTable.compile(PUBLIC_PATTERNS);
+  private static final RouteTable TOKEN_AWARE_ROUTES = RouteTable.compile(TOKEN_AWARE_PATTERNS);
+  private static final RouteTable INTERNAL_ROUTES = RouteTable.compile(INTERNAL_PATTERNS);
+
+  public enum RouteType {
+    PREFLIGHT, PUBLIC, INTERNAL, PROTECTED
+  }
+
+  private SecurityRoutes() {
+  }
+
+  public static RouteType classify(HttpServletRequest request) {
+    if (CorsUtils.isPreFlightRequest(request)) {
+      return RouteType.PREFLIGHT;
+    }
+    String path = pathWithinApplication(request);
+    if (PUBLIC_ROUTES.matches(path) && !TOKEN_AWARE_ROUTES.matches(path)) {
+      return RouteType.PUBLIC;
+    }
+    if (INTERNAL_ROUTES.matches(path)) {
+      return RouteType.INTERNAL;
+    }
+    return RouteType.PROTECTED;
+  }
+
+  /**
+   * 사용자 토큰 추출/검증을 생략해도 되는 요청인지 확인 (preflight, permitAll 경로, 내부 서비스 경로)
+   */
+  public static boolean skipsAuthentication(HttpServletRequest request) {
+    return classify(request) != RouteType.PROTECTED;
+  }
+
+  private static String pathWithinApplication(HttpServletRequest request) {
+    // 컨테이너가 디코딩/정규화한 servletPath + pathInfo 를 우선 사용
+    String servletPath = request.getServletPath();
+    String pathInfo = request.getPathInfo();
+    if (pathInfo != null) {
+      return servletPath == null ? pathInfo : servletPath + pathInfo;
+    }
+    if (servletPath != null && !servletPath.isEmpty()) {
+      return servletPath;
+    }
+    String uri = request.getRequestURI();
+    String contextPath = request.getContextPath();
+    if (uri == null) {
+      return "";
+    }
+    if (contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)) {
+      return uri.substring(contextPath.length());
+    }
+    return uri;
+  }
+
+  /**
+   * "/prefix/**" 와 정확히 일치하는 경로만 지원하는 단순 매칭 테이블
+   */
+  private static final class RouteTable {
+
+    private final Set<String> exactPaths;
+    private final String[] prefixes;
+
+    private RouteTable(Set<String> exactPaths, String[] prefixes) {
+      this.exactPaths = exactPaths;
+      this.prefixes = prefixes;
+    }
+
+    static RouteTable compile(String[] patterns) {
+      List<String> exact = new ArrayList<>();
+      List<String> prefixes = new ArrayList<>();
+      for (String pattern : patterns) {
+        if (pattern.endsWith("/**")) {
+          String prefix = pattern.substring(0, pattern.length() - 3);
+          requireLiteral(pattern, prefix);
+          prefixes.add(prefix);
+        } else {
+          requireLiteral(pattern, pattern);
+          exact.add(pattern);
+        }
+      }
+      return new RouteTable(Set.copyOf(exact), prefixes.toArray(String[]::new));
+    }
+
+    private static void requireLiteral(String pattern, String literal) {
+      if (literal.indexOf('*') >= 0 || literal.indexOf('{') >= 0 || literal.indexOf('?') >= 0) {
+        throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+      }
+    }
+
+    boolean matches(String path) {
+      if (exactPaths.contains(path)) {
+        return true;
+      }
+      for (String prefix : prefixes) {
+        if (path.startsWith(prefix)
+            && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
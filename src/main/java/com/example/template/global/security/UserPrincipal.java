@@ -12,6 +12,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * 인증 필터가 SecurityContext 에 넣는 사용자 정보
+ * <p>
+ * 불투명 토큰 세션에는 userId/role 만 있으므로, 토큰 기반(security.jwt.check-db=false) 불투명 토큰 인증에서는
+ * email 과 getUsername() 이 null 이다. 사용자는 userId 로 식별하고, 이메일이 필요하면 userId 로 조회한다
+ */
 @Getter
 @RequiredArgsConstructor
 public class UserPrincipal implements UserDetails {
@@ -37,6 +43,9 @@ public class UserPrincipal implements UserDetails {
     return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
   }
 
+  /**
+   * 이메일 (불투명 토큰의 토큰 기반 인증이면 null)
+   */
   @Override
   public String getUsername() {
     return email;
@@ -1,20 +1,17 @@
 package com.example.template.global.security.handler;
 
 import com.example.template.global.common.exception.ErrorMessage;
-import com.example.template.global.common.util.ApiResult;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.template.global.common.exception.ErrorResponseBodies;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * 인증은 되었지만 권한이 없는 사용자가 접근할 때 처리하는 핸들러 HTTP 403 Forbidden 응답을 JSON 형태로 반환
@@ -24,7 +21,7 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
-  private final ObjectMapper objectMapper;
+  private final ErrorResponseBodies errorResponseBodies;
 
   @Override
   public void handle(HttpServletRequest request, HttpServletResponse response,
@@ -35,21 +32,8 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
         request.getRemoteUser(),
         accessDeniedException.getMessage());
 
-    // HTTP 응답 설정
-    response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-
-    // JSON 응답 생성
-    ApiResult<Object> apiResult = ApiResult.fail(
-        HttpServletResponse.SC_FORBIDDEN,
-        ErrorMessage.ACCESS_DENIED
-    );
-
-    // JSON 응답 전송
-    String jsonResponse = objectMapper.writeValueAsString(apiResult);
-    response.getWriter().write(jsonResponse);
-    response.getWriter().flush();
+    // 미리 직렬화된 JSON 응답 전송
+    errorResponseBodies.write(response, HttpServletResponse.SC_FORBIDDEN, ErrorMessage.ACCESS_DENIED);
 
     log.debug("[Access Denied] 403 JSON 응답 전송 완료");
   }
@@ -1,20 +1,17 @@
 package com.example.template.global.security.handler;
 
 import com.example.template.global.common.exception.ErrorMessage;
-import com.example.template.global.common.util.ApiResult;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.template.global.common.exception.ErrorResponseBodies;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * 인증되지 않은 사용자가 보호된 리소스에 접근할 때 처리하는 핸들러 HTTP 401 Unauthorized 응답을 JSON 형태로 반환
@@ -24,7 +21,7 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-  private final ObjectMapper objectMapper;
+  private final ErrorResponseBodies errorResponseBodies;
 
   @Override
   public void commence(HttpServletRequest request, HttpServletResponse response,
@@ -35,24 +32,11 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
         request.getRemoteAddr(),
         authException.getMessage());
 
-    // HTTP 응답 설정
-    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-
     // 에러 메시지 결정
     String errorMessage = determineErrorMessage(request, authException);
 
-    // JSON 응답 생성
-    ApiResult<Object> apiResult = ApiResult.fail(
-        HttpServletResponse.SC_UNAUTHORIZED,
-        errorMessage
-    );
-
-    // JSON 응답 전송
-    String jsonResponse = objectMapper.writeValueAsString(apiResult);
-    response.getWriter().write(jsonResponse);
-    response.getWriter().flush();
+    // 미리 직렬화된 JSON 응답 전송
+    errorResponseBodies.write(response, HttpServletResponse.SC_UNAUTHORIZED, errorMessage);
 
     log.debug("[Authentication Failed] 401 JSON 응답 전송 완료");
   }
@@ -2,8 +2,9 @@ package com.example.template.global.security.service;
 
 import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
-import com.example.template.global.common.exception.ApiException;
+import com.example.template.global.common.exception.ApiExceptions;
 import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.common.logging.LogMarkers;
 import com.example.template.global.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -21,16 +23,17 @@ public class CustomUserDetailsService implements UserDetailsService {
   private final UserRepository userRepository;
 
   @Override
+  @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-    log.info("[UserDetailsService] 사용자 인증 정보 조회 시도");
+    log.debug("[UserDetailsService] 사용자 인증 정보 조회 시도");
 
     User user = userRepository.findByEmail(email)
         .orElseThrow(() -> {
           log.warn("[UserDetailsService] 사용자를 찾을 수 없음 Status = {}, message={}", HttpStatus.NOT_FOUND.value(), ErrorMessage.USER_NOT_FOUND);
-          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.USER_NOT_FOUND);
+          return ApiExceptions.USER_NOT_FOUND;
         });
 
-    log.info("[UserDetailsService] 사용자 인증 정보 조회 성공");
+    log.info(LogMarkers.ROUTINE, "[UserDetailsService] 사용자 인증 정보 조회 성공");
 
     return UserPrincipal.from(user);
   }
@@ -3,14 +3,25 @@ package com.example.template.global.security.service;
 import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
 import com.example.template.global.common.entity.Role;
+import com.example.template.global.common.logging.MdcLoggingFilter;
 import com.example.template.global.common.util.CookieUtil;
+import com.example.template.global.datasource.ReadYourWritesTracker;
+import com.example.template.global.datasource.ReplicaRouting;
+import com.example.template.global.security.SecurityRoutes;
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.monitoring.AuthMetrics.FilterOutcome;
 import com.example.template.global.security.UserPrincipal;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,45 +38,83 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
+  private final OpaqueTokenStore opaqueTokenStore;
+  private final JwtRevocationList jwtRevocationList;
   private final UserRepository userRepository;
+  private final CookieUtil cookieUtil;
+  private final AuthMetrics authMetrics;
+  private final ReadYourWritesTracker readYourWritesTracker;
 
   @Value("${security.jwt.check-db:false}")
   private boolean checkUserStateWithDb;
 
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    // permitAll 경로와 CORS preflight 는 쿠키 파싱/서명 검증을 모두 생략
+    return SecurityRoutes.skipsAuthentication(request);
+  }
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
       FilterChain filterChain) throws ServletException, IOException {
 
-    String accessToken = getAccessTokenFromRequest(request);
+    String accessToken = resolveAccessToken(request, cookieUtil);
 
-    // Access Token이 유효한 경우만 인증 처리
-    if (StringUtils.hasText(accessToken) && jwtTokenProvider.validateToken(accessToken)) {
-      authenticateWithToken(request, accessToken);
+    try {
+      // Access Token이 있는 경우만 검증 후 인증 처리
+      if (StringUtils.hasText(accessToken)) {
+        authenticateWithToken(request, accessToken);
+      } else {
+        authMetrics.filterOutcome(FilterOutcome.NO_TOKEN);
+      }
+      // refresh Token 기반 재발급 로직은 없음 필요시 추가 예정
+      filterChain.doFilter(request, response);
+    } finally {
+      ReplicaRouting.clear();
     }
-    // refresh Token 기반 재발급 로직은 없음 필요시 추가 예정
-    filterChain.doFilter(request, response);
   }
 
   private void authenticateWithToken(HttpServletRequest request, String token) {
+    // 1. 토큰 접두사로 방식 선택 후 한 번의 조회/파싱으로 유저ID, 이메일(JWT 만), role 추출
+    TokenClaims claims;
+    if (OpaqueTokenStore.isOpaque(token)) {
+      claims = resolveOpaqueToken(token);
+    } else if (opaqueTokenStore.isEnabled()) {
+      // 불투명 토큰 모드에서 클라이언트가 가진 JWT 는 refresh token 뿐이므로 세션 테이블을 우회하지 못하게 거부
+      log.warn("[JWT Filter] 인증 실패 - 불투명 토큰 모드에서 JWT 를 access token 으로 사용");
+      authMetrics.filterOutcome(FilterOutcome.INVALID_TOKEN);
+      return;
+    } else {
+      claims = parseJwt(token);
+    }
+    if (claims == null) {
+      return;
+    }
+
     try {
-      // 1. 토큰에서 유저ID(useerId), 이메일(subject)과 role(claim) 추출
-      Long userId =  jwtTokenProvider.getUserIdFromToken(token);
-      String email = jwtTokenProvider.getEmailFromToken(token);
-      String role = jwtTokenProvider.getRoleFromToken(token);
+      Long userId = claims.userId();
+      String email = claims.email();
+
+      // 가입/로그인 직후 요청은 복제 지연과 무관하게 primary 에서 읽는다 (필터의 DB 검증 포함)
+      if (readYourWritesTracker.recentlyWrote(userId)) {
+        ReplicaRouting.forcePrimary();
+      }
 
       if (checkUserStateWithDb) {
         UserPrincipal userPrincipal = userRepository.findById(userId)
-            .filter(user -> email.equalsIgnoreCase(user.getEmail()))
+            .filter(user -> email == null || email.equalsIgnoreCase(user.getEmail()))
             .map(this::buildPrincipalFromUser)
             .orElse(null);
 
         if (userPrincipal == null) {
           log.warn("[JWT Filter] 인증 실패 - DB 상태와 토큰 정보 불일치 또는 사용자 없음, userId={}", userId);
+          authMetrics.filterOutcome(FilterOutcome.USER_MISMATCH);
           SecurityContextHolder.clearContext();
           return;
         }
 
         setAuthentication(request, userPrincipal);
+        authMetrics.filterOutcome(FilterOutcome.AUTHENTICATED);
         log.debug("[JWT Filter] 인증 성공 (DB 검증 포함)");
         return;
       }
@@ -73,20 +122,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       UserPrincipal userPrincipal = new UserPrincipal(
           userId,
           email,
-          Role.valueOf(role),
+          Role.valueOf(claims.role()),
           null
       );
 
       setAuthentication(request, userPrincipal);
+      authMetrics.filterOutcome(FilterOutcome.AUTHENTICATED);
       log.debug("[JWT Filter] 인증 성공 (토큰 기반)");
 
     } catch (Exception e) {
-      // 토큰 파싱 실패, role 변환 실패 등 예외 발생 시
+      // role 변환 실패 등 예외 발생 시
       log.warn("[JWT Filter] 인증 실패: {}", e.getMessage());
+      authMetrics.filterOutcome(FilterOutcome.ERROR);
       SecurityContextHolder.clearContext();
     }
   }
 
+  /**
+   * 서명/만료/typ=access 검증과 클레임 추출을 한 번의 파싱으로 처리 후 폐기 목록 확인 (실패하면 null)
+   * refresh token 은 typ 검증에서 거부된다 (jti 가 없어 폐기 목록으로는 막을 수 없다)
+   */
+  private TokenClaims parseJwt(String token) {
+    try {
+      TokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+      if (jwtRevocationList.isRevoked(claims.tokenId())) {
+        log.warn("[JWT Filter] 인증 실패 - 로그아웃으로 폐기된 토큰, userId={}", claims.userId());
+        authMetrics.filterOutcome(FilterOutcome.REVOKED_TOKEN);
+        return null;
+      }
+      return claims;
+    } catch (ExpiredJwtException e) {
+      log.warn("JWT 만료됨: {}", e.getMessage());
+      authMetrics.filterOutcome(FilterOutcome.EXPIRED_TOKEN);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.error("JWT 검증 실패: {}", e.getMessage());
+      authMetrics.filterOutcome(FilterOutcome.INVALID_TOKEN);
+    }
+    return null;
+  }
+
+  /**
+   * off-heap 세션 테이블 조회 (없거나 만료/폐기되었으면 null, 이메일은 담기지 않는다)
+   */
+  private TokenClaims resolveOpaqueToken(String token) {
+    TokenClaims claims = opaqueTokenStore.resolve(token);
+    if (claims == null) {
+      log.warn("[JWT Filter] 불투명 토큰 인증 실패 - 세션 없음, 만료 또는 폐기");
+      authMetrics.filterOutcome(FilterOutcome.INVALID_TOKEN);
+    }
+    return claims;
+  }
+
   private void setAuthentication(HttpServletRequest request, UserPrincipal userPrincipal) {
     UsernamePasswordAuthenticationToken authentication =
         new UsernamePasswordAuthenticationToken(
@@ -100,6 +186,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     );
 
     SecurityContextHolder.getContext().setAuthentication(authentication);
+    MDC.put(MdcLoggingFilter.USER_ID, String.valueOf(userPrincipal.getUserId()));
   }
 
   private UserPrincipal buildPrincipalFromUser(User user) {
@@ -112,14 +199,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   }
 
 
-  private String getAccessTokenFromRequest(HttpServletRequest request) {
+  /**
+   * Authorization Bearer 헤더, 없으면 accessToken 쿠키 (로그아웃 시 불투명 토큰 폐기에도 사용)
+   */
+  public static String resolveAccessToken(HttpServletRequest request, CookieUtil cookieUtil) {
     // 1. Authorization 헤더에서 Bearer 토큰 확인
     String bearerToken = request.getHeader("Authorization");
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
       return bearerToken.substring(7);
     }
     // 2. 쿠키에서 accessToken 확인
-    String cookieToken = CookieUtil.getCookieValue(request, "accessToken");
+    String cookieToken = cookieUtil.getCookieValue(request, CookieUtil.ACCESS_TOKEN);
     if (StringUtils.hasText(cookieToken)) {
       return cookieToken;
     }
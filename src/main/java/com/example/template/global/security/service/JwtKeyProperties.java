@@ -0,0 +1,45 @@
+package com.example.template.global.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jwt.* 서명 키 설정 (JwtConfig 에서 바인딩)
+ * <p>
+ * - algorithm=HS256: secret 하나로 서명/검증 (kid 없음, 검증하는 모든 서비스가 secret 을 알아야 한다)
+ * - algorithm=ES256 | EdDSA: keys 의 첫 번째가 현재 서명 키, 나머지는 교체 전 키(검증 전용)
+ *   공개 키는 /.well-known/jwks.json 으로 공개되고, secret 이 있으면 kid 없는 이전 HS256 토큰도 만료까지 검증한다
+ */
+@Getter
+@Setter
+public class JwtKeyProperties {
+
+  private String algorithm = "HS256";
+
+  private String secret;
+
+  private List<KeyEntry> keys = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class KeyEntry {
+
+    /**
+     * JWT 헤더 kid 와 JWKS 에 쓰이는 키 ID
+     */
+    private String kid;
+
+    /**
+     * PKCS#8 DER 의 Base64 (현재 서명 키만 필요)
+     */
+    private String privateKey;
+
+    /**
+     * X.509 SubjectPublicKeyInfo DER 의 Base64
+     */
+    private String publicKey;
+  }
+}
@@ -0,0 +1,157 @@
+package com.example.template.global.security.service;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JWT 서명 키와 검증 키 모음
+ * <p>
+ * 서명은 현재 키 하나로만 하고 헤더에 kid 를 넣는다
+ * 검증은 헤더 kid 로 verificationKeys(HashMap)에서 키를 찾는다 (kid 가 없으면 HS256 secret 키, 비대칭 모드에서는 전환 전 발급 토큰용)
+ * 키를 교체할 때는 새 키를 keys 맨 앞에 추가하고, 이전 키는 발급된 토큰이 모두 만료(refresh TTL)된 뒤 제거한다
+ */
+public final class JwtKeyRing {
+
+  private final String currentKid;
+  private final Key signingKey;
+  private final SignatureAlgorithm signatureAlgorithm;
+  private final Map<String, Key> verificationKeys;
+  private final Key hmacKey;
+  private final List<PublicJwk<?>> publicJwks;
+  private final Locator<Key> keyLocator;
+
+  private JwtKeyRing(String currentKid, Key signingKey, SignatureAlgorithm signatureAlgorithm,
+      Map<String, Key> verificationKeys, Key hmacKey, List<PublicJwk<?>> publicJwks) {
+    this.currentKid = currentKid;
+    this.signingKey = signingKey;
+    this.signatureAlgorithm = signatureAlgorithm;
+    this.verificationKeys = verificationKeys;
+    this.hmacKey = hmacKey;
+    this.publicJwks = publicJwks;
+    this.keyLocator = new LocatorAdapter<>() {
+      @Override
+      protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        // 찾지 못하면 null -> 파서가 UnsupportedJwtException 으로 거부
+        return kid == null ? JwtKeyRing.this.hmacKey : JwtKeyRing.this.verificationKeys.get(kid);
+      }
+    };
+  }
+
+  /**
+   * HS256 단일 secret (kid 없이 서명, JWKS 없음)
+   */
+  public static JwtKeyRing hmac(String secret) {
+    Key key = hmacKeyOf(secret);
+    if (key == null) {
+      throw new IllegalStateException("[JWT] secret 키가 설정되지 않았거나 32자 미만입니다. 환경 변수를 확인하세요.");
+    }
+    return new JwtKeyRing(null, key, null, Map.of(), key, List.of());
+  }
+
+  public static JwtKeyRing from(JwtKeyProperties properties) {
+    String algorithm = properties.getAlgorithm() == null ? "HS256"
+        : properties.getAlgorithm().trim().toUpperCase(Locale.ROOT);
+    return switch (algorithm) {
+      case "HS256" -> hmac(properties.getSecret());
+      case "ES256" -> asymmetric(Jwts.SIG.ES256, "EC", properties);
+      case "EDDSA" -> asymmetric(Jwts.SIG.EdDSA, "Ed25519", properties);
+      default -> throw new IllegalStateException("[JWT] 지원하지 않는 jwt.algorithm 입니다: " + properties.getAlgorithm());
+    };
+  }
+
+  private static JwtKeyRing asymmetric(SignatureAlgorithm algorithm, String keyFactoryAlgorithm,
+      JwtKeyProperties properties) {
+    List<JwtKeyProperties.KeyEntry> keys = properties.getKeys();
+    if (keys.isEmpty()) {
+      throw new IllegalStateException("[JWT] jwt.algorithm=" + algorithm.getId() + " 에는 jwt.keys 가 필요합니다.");
+    }
+    try {
+      KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+      Map<String, Key> verificationKeys = new HashMap<>();
+      List<PublicJwk<?>> publicJwks = new ArrayList<>();
+      for (JwtKeyProperties.KeyEntry key : keys) {
+        if (!StringUtils.hasText(key.getKid()) || !StringUtils.hasText(key.getPublicKey())) {
+          throw new IllegalStateException("[JWT] jwt.keys 항목마다 kid 와 public-key 가 필요합니다.");
+        }
+        PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decode(key.getPublicKey())));
+        if (verificationKeys.put(key.getKid(), publicKey) != null) {
+          throw new IllegalStateException("[JWT] jwt.keys 의 kid 가 중복되었습니다: " + key.getKid());
+        }
+        publicJwks.add(Jwks.builder().key(publicKey)
+            .id(key.getKid())
+            .algorithm(algorithm.getId())
+            .publicKeyUse("sig")
+            .build());
+      }
+
+      JwtKeyProperties.KeyEntry current = keys.get(0);
+      if (!StringUtils.hasText(current.getPrivateKey())) {
+        throw new IllegalStateException("[JWT] 현재 키(jwt.keys[0])에는 private-key 가 필요합니다: " + current.getKid());
+      }
+      PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(current.getPrivateKey())));
+      return new JwtKeyRing(current.getKid(), privateKey, algorithm, Map.copyOf(verificationKeys),
+          hmacKeyOf(properties.getSecret()), List.copyOf(publicJwks));
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException("[JWT] jwt.keys 를 읽을 수 없습니다: " + e.getMessage(), e);
+    }
+  }
+
+  private static byte[] decode(String base64) {
+    return Base64.getMimeDecoder().decode(base64.trim());
+  }
+
+  /**
+   * 현재 키로 서명 (비대칭 키면 헤더에 kid)
+   */
+  JwtBuilder signWith(JwtBuilder builder) {
+    if (signatureAlgorithm == null) {
+      return builder.signWith(signingKey);
+    }
+    return builder.header().keyId(currentKid).and()
+        .signWith((PrivateKey) signingKey, signatureAlgorithm);
+  }
+
+  Locator<Key> keyLocator() {
+    return keyLocator;
+  }
+
+  /**
+   * JWKS 로 공개할 공개 키 (HS256 이면 비어 있다)
+   */
+  public List<PublicJwk<?>> publicJwks() {
+    return publicJwks;
+  }
+
+  /**
+   * secret 이 32자 미만이면 null
+   */
+  private static Key hmacKeyOf(String secret) {
+    if (secret == null || secret.length() < 32) {
+      return null;
+    }
+    return Keys.hmacShaKeyFor(secret.getBytes());
+  }
+}
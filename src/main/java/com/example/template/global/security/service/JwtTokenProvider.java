@@ -1,32 +1,60 @@
 package com.example.template.global.security.service;
 
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.monitoring.AuthMetrics.VerifyResult;
+import com.example.template.global.monitoring.jfr.TokenVerificationEvent;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-  private final SecretKey secretKey;
+  /**
+   * 토큰 종류 클레임 (refresh token 을 Bearer 로 보내 access token 처럼 쓰지 못하게)
+   */
+  static final String TOKEN_TYPE = "typ";
+  static final String ACCESS_TOKEN_TYPE = "access";
+  static final String REFRESH_TOKEN_TYPE = "refresh";
+
+  private final JwtKeyRing keyRing;
+  private final JwtParser jwtParser;
+  private final JwtParser accessTokenParser;
   private final long accessTokenValidityInMilliseconds;
   private final long refreshTokenValidityInMilliseconds;
+  private final AuthMetrics authMetrics;
+
+  public JwtTokenProvider(String secret, long accessTokenValidityInSeconds, long refreshTokenValidityInSeconds) {
+    this(JwtKeyRing.hmac(secret), accessTokenValidityInSeconds, refreshTokenValidityInSeconds, AuthMetrics.noop());
+  }
+
+  public JwtTokenProvider(String secret, long accessTokenValidityInSeconds, long refreshTokenValidityInSeconds,
+      AuthMetrics authMetrics) {
+    this(JwtKeyRing.hmac(secret), accessTokenValidityInSeconds, refreshTokenValidityInSeconds, authMetrics);
+  }
 
+  @Autowired
   public JwtTokenProvider(
-      @Value("${jwt.secret:}") String secret,
+      JwtKeyRing keyRing,
       @Value("${jwt.access-token-validity-in-seconds:1800}") long accessTokenValidityInSeconds,
-      @Value("${jwt.refresh-token-validity-in-seconds:604800}") long refreshTokenValidityInSeconds) {
-    if (secret == null || secret.length() < 32) {
-      throw new IllegalStateException("[JWT] secret 키가 설정되지 않았거나 32자 미만입니다. 환경 변수를 확인하세요.");
-    }
-
-    this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+      @Value("${jwt.refresh-token-validity-in-seconds:604800}") long refreshTokenValidityInSeconds,
+      AuthMetrics authMetrics) {
+    this.keyRing = keyRing;
+    this.jwtParser = Jwts.parser()         // parserBuilder() → parser() 사용, 파서는 thread-safe 하므로 재사용
+        .keyLocator(keyRing.keyLocator())  // 헤더 kid 로 검증 키 선택 (JwtKeyRing)
+        .build();
+    this.accessTokenParser = Jwts.parser()
+        .keyLocator(keyRing.keyLocator())
+        .require(TOKEN_TYPE, ACCESS_TOKEN_TYPE)  // 없거나 다르면 MissingClaimException / IncorrectClaimException
+        .build();
+    this.authMetrics = authMetrics;
     this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
     this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
   }
@@ -35,31 +63,65 @@ public class JwtTokenProvider {
    * Access Token 생성
    */
   public String createAccessToken(Long userId, String email, String role) {
-    return createToken(userId, email, role, accessTokenValidityInMilliseconds);
+    return createToken(userId, email, role, accessTokenValidityInMilliseconds, false);
   }
 
   /**
    * Refresh Token 생성
    */
   public String createRefreshToken(Long userId, String email, String role) {
-    return createToken(userId, email, role, refreshTokenValidityInMilliseconds);
+    return createToken(userId, email, role, refreshTokenValidityInMilliseconds, true);
   }
 
   /**
    * JWT 토큰 생성
    */
-  private String createToken(Long userId, String email, String role, long validityInMilliseconds) {
+  private String createToken(Long userId, String email, String role, long validityInMilliseconds,
+      boolean refreshToken) {
+    long start = System.nanoTime();
     Date now = new Date();
     Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-    return Jwts.builder()
+    JwtBuilder builder = Jwts.builder()
         .subject(email)
         .claim("userId", userId)
         .claim("role", role)
+        .claim(TOKEN_TYPE, refreshToken ? REFRESH_TOKEN_TYPE : ACCESS_TOKEN_TYPE)
         .issuedAt(now)
-        .expiration(validity)
-        .signWith(secretKey)               // signWith(key, algorithm) 대신 signWith(key) 사용
-        .compact();
+        .expiration(validity);
+    if (!refreshToken) {
+      // 로그아웃 시 exp 전에 폐기할 수 있도록 access token 마다 고유 id (JwtRevocationList)
+      builder.id(UUID.randomUUID().toString());
+    }
+    String token = keyRing.signWith(builder).compact();
+    authMetrics.recordJwtSign(refreshToken, start);
+    return token;
+  }
+
+  /**
+   * 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리
+   * 유효하지 않으면 JwtException(만료 시 ExpiredJwtException) 또는 IllegalArgumentException
+   */
+  public TokenClaims parseToken(String token) {
+    return toTokenClaims(getClaimsFromToken(token, jwtParser));
+  }
+
+  /**
+   * parseToken 과 같지만 typ=access 인 토큰만 통과 (인증 필터, 토큰 검사에서 사용)
+   * refresh token 이나 typ 클레임이 없는 토큰은 JwtException
+   */
+  public TokenClaims parseAccessToken(String token) {
+    return toTokenClaims(getClaimsFromToken(token, accessTokenParser));
+  }
+
+  private static TokenClaims toTokenClaims(Claims claims) {
+    return new TokenClaims(
+        claims.get("userId", Long.class),
+        claims.getSubject(),
+        claims.get("role", String.class),
+        claims.getExpiration().toInstant(),
+        claims.getId()
+    );
   }
 
   /**
@@ -87,11 +149,34 @@ public class JwtTokenProvider {
    * JWT 토큰에서 Claims 추출 (JJWT 0.12.x 권장 방식)
    */
   private Claims getClaimsFromToken(String token) {
-    return Jwts.parser()                   // parserBuilder() → parser() 사용
-        .verifyWith(secretKey)             // setSigningKey() → verifyWith() 사용
-        .build()
-        .parseSignedClaims(token)          // parseClaimsJws() → parseSignedClaims() 사용
-        .getPayload();                     // getBody() → getPayload() 사용
+    return getClaimsFromToken(token, jwtParser);
+  }
+
+  private Claims getClaimsFromToken(String token, JwtParser parser) {
+    TokenVerificationEvent event = new TokenVerificationEvent();
+    event.begin();
+    long start = System.nanoTime();
+    try {
+      Claims claims = parser
+          .parseSignedClaims(token)        // parseClaimsJws() → parseSignedClaims() 사용
+          .getPayload();                   // getBody() → getPayload() 사용
+      authMetrics.recordJwtVerify(VerifyResult.VALID, start);
+      event.finish(VerifyResult.VALID.tag(), userIdOf(claims));
+      return claims;
+    } catch (ExpiredJwtException e) {
+      authMetrics.recordJwtVerify(VerifyResult.EXPIRED, start);
+      event.finish(VerifyResult.EXPIRED.tag(), userIdOf(e.getClaims()));
+      throw e;
+    } catch (JwtException | IllegalArgumentException e) {
+      authMetrics.recordJwtVerify(VerifyResult.INVALID, start);
+      event.finish(VerifyResult.INVALID.tag(), 0L);
+      throw e;
+    }
+  }
+
+  private static long userIdOf(Claims claims) {
+    Long userId = claims == null ? null : claims.get("userId", Long.class);
+    return userId == null ? 0L : userId;
   }
 
   /**
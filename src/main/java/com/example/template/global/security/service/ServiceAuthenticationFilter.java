@@ -0,0 +1,96 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.security.SecurityRoutes;
+import com.example.template.global.security.SecurityRoutes.RouteType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내부 서비스 경로(SecurityRoutes.INTERNAL_PATTERNS) 전용 인증 필터
+ * X-Service-Key 헤더가 security.internal.service-keys(서비스명:키 목록)의 키와 일치하면 ROLE_SERVICE 로 인증한다
+ * 키가 없거나 틀리면 인증 정보 없이 통과시켜 SecurityConfig 의 인가 단계에서 401 로 처리된다
+ */
+@Slf4j
+@Component
+public class ServiceAuthenticationFilter extends OncePerRequestFilter {
+
+  public static final String SERVICE_KEY_HEADER = "X-Service-Key";
+  public static final String SERVICE_ROLE = "SERVICE";
+
+  /**
+   * 서비스명 -> 키 바이트
+   */
+  private final Map<String, byte[]> serviceKeys;
+
+  public ServiceAuthenticationFilter(@Value("${security.internal.service-keys:}") List<String> serviceKeys) {
+    Map<String, byte[]> keys = new HashMap<>();
+    for (String entry : serviceKeys) {
+      if (!StringUtils.hasText(entry)) {
+        continue;
+      }
+      int separator = entry.indexOf(':');
+      if (separator <= 0 || separator == entry.length() - 1) {
+        throw new IllegalStateException("[ServiceAuth] security.internal.service-keys 는 서비스명:키 형식이어야 합니다.");
+      }
+      String key = entry.substring(separator + 1).trim();
+      if (key.length() < 32) {
+        throw new IllegalStateException("[ServiceAuth] 서비스 키는 32자 이상이어야 합니다: " + entry.substring(0, separator));
+      }
+      keys.put(entry.substring(0, separator).trim(), key.getBytes(StandardCharsets.UTF_8));
+    }
+    this.serviceKeys = Map.copyOf(keys);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return SecurityRoutes.classify(request) != RouteType.INTERNAL;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    String presented = request.getHeader(SERVICE_KEY_HEADER);
+    if (StringUtils.hasText(presented)) {
+      String service = resolveService(presented.getBytes(StandardCharsets.UTF_8));
+      if (service != null) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            service, null, AuthorityUtils.createAuthorityList("ROLE_" + SERVICE_ROLE));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        log.debug("[ServiceAuth] 서비스 인증 성공 service={}", service);
+      } else {
+        log.warn("[ServiceAuth] 서비스 키 불일치 - URI: {}, IP: {}", request.getRequestURI(), request.getRemoteAddr());
+      }
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * 모든 키와 상수 시간 비교 (일치한 키에 따라 비교 시간이 달라지지 않도록 중간에 멈추지 않는다)
+   */
+  private String resolveService(byte[] presented) {
+    String matched = null;
+    for (Map.Entry<String, byte[]> entry : serviceKeys.entrySet()) {
+      if (MessageDigest.isEqual(entry.getValue(), presented)) {
+        matched = entry.getKey();
+      }
+    }
+    return matched;
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.template.global.security.service;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 통과한 토큰의 사용자 정보와 만료 시각
+ * tokenId 는 access token 의 jti (폐기 목록 조회용, refresh token 과 불투명 토큰은 null)
+ * 토큰 종류(typ)는 담지 않는다. access token 만 받아야 하는 곳은 JwtTokenProvider.parseAccessToken 을 쓴다
+ */
+public record TokenClaims(Long userId, String email, String role, Instant expiresAt, String tokenId) {
+
+}
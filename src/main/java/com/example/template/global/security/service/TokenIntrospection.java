@@ -0,0 +1,15 @@
+package com.example.template.global.security.service;
+
+import java.time.Instant;
+
+/**
+ * 토큰 하나의 검사 결과 (유효하지 않으면 active=false 이고 나머지는 null)
+ */
+public record TokenIntrospection(boolean active, Long userId, String role, Instant expiresAt) {
+
+  static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null);
+
+  static TokenIntrospection of(TokenClaims claims) {
+    return new TokenIntrospection(true, claims.userId(), claims.role(), claims.expiresAt());
+  }
+}
@@ -0,0 +1,123 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 다른 서비스가 받은 access token 을 일괄 검사 (서명/만료/typ 검증은 JwtTokenProvider.parseAccessToken 한 번)
+ * <p>
+ * - refresh token 은 서명이 유효해도 active=false 이다 (access token 으로 받아들이지 않게)
+ * - 유효한 토큰의 클레임은 토큰의 exp 까지 캐시한다 (인스턴스 로컬, maximum-size 0 이면 캐시하지 않음)
+ * - 로그아웃으로 폐기된 jti 는 캐시 적중 여부와 관계없이 매번 JwtRevocationList 로 확인한다
+ * - 유효하지 않은 토큰은 캐시하지 않는다 (임의 문자열로 캐시를 채우지 못하게)
+ * - PARALLEL_THRESHOLD 개 이상이면 전용 ForkJoinPool 에서 코어 수만큼 나눠 검증한다 (공용 풀을 점유하지 않는다)
+ * JWT 는 상태가 없으므로 토큰 발급 이후의 사용자 삭제/권한 변경은 반영하지 않는다
+ * 불투명 토큰("ot_")은 OpaqueTokenStore 를 직접 조회하고 캐시하지 않는다 (폐기가 즉시 반영되어야 한다)
+ * 불투명 토큰 모드에서는 JWT 를 모두 active=false 로 본다
+ */
+@Slf4j
+@Component
+public class TokenIntrospector {
+
+  /**
+   * 이 개수 미만은 요청 스레드에서 순차 검증 (작은 배치는 작업 분배 비용이 검증 비용보다 크다)
+   */
+  static final int PARALLEL_THRESHOLD = 32;
+
+  private final JwtTokenProvider jwtTokenProvider;
+  private final OpaqueTokenStore opaqueTokenStore;
+  private final JwtRevocationList jwtRevocationList;
+  private final boolean cacheEnabled;
+  private final Cache<String, TokenClaims> results;
+  private final ForkJoinPool pool;
+
+  public TokenIntrospector(JwtTokenProvider jwtTokenProvider, OpaqueTokenStore opaqueTokenStore,
+      JwtRevocationList jwtRevocationList,
+      @Value("${security.introspection.cache.maximum-size:100000}") long maximumSize,
+      @Value("${security.introspection.parallelism:0}") int parallelism) {
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.opaqueTokenStore = opaqueTokenStore;
+    this.jwtRevocationList = jwtRevocationList;
+    this.cacheEnabled = maximumSize > 0;
+    this.results = Caffeine.newBuilder()
+        .maximumSize(Math.max(0L, maximumSize))
+        .expireAfter(new UntilExpiry())
+        .build();
+    this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+  }
+
+  @PreDestroy
+  void shutdown() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * 요청 순서대로 결과를 반환
+   */
+  public List<TokenIntrospection> introspect(List<String> tokens) {
+    if (tokens.size() < PARALLEL_THRESHOLD) {
+      return tokens.stream().map(this::introspect).toList();
+    }
+    return pool.submit(() -> tokens.parallelStream().map(this::introspect).toList()).join();
+  }
+
+  public TokenIntrospection introspect(String token) {
+    if (token != null && OpaqueTokenStore.isOpaque(token)) {
+      TokenClaims claims = opaqueTokenStore.resolve(token);
+      return claims != null ? TokenIntrospection.of(claims) : TokenIntrospection.INACTIVE;
+    }
+    if (opaqueTokenStore.isEnabled()) {
+      // 불투명 토큰 모드에서는 JWT access token 을 발급하지 않는다 (필터와 같은 기준)
+      return TokenIntrospection.INACTIVE;
+    }
+    TokenClaims claims = cacheEnabled ? results.getIfPresent(token) : null;
+    try {
+      if (claims == null) {
+        claims = jwtTokenProvider.parseAccessToken(token);
+        if (cacheEnabled) {
+          results.put(token, claims);
+        }
+      }
+      return jwtRevocationList.isRevoked(claims.tokenId()) ? TokenIntrospection.INACTIVE : TokenIntrospection.of(claims);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.debug("[Introspection] 유효하지 않은 토큰: {}", e.getMessage());
+      return TokenIntrospection.INACTIVE;
+    }
+  }
+
+  /**
+   * 캐시 항목 수명 = 토큰 exp 까지 남은 시간
+   */
+  private static final class UntilExpiry implements Expiry<String, TokenClaims> {
+
+    @Override
+    public long expireAfterCreate(String token, TokenClaims claims, long currentTime) {
+      return Math.max(0L, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, TokenClaims claims, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(token, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String token, TokenClaims claims, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.template.global.security.session;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 로그아웃한 JWT access token 의 jti 를 토큰 exp 까지 거부 (security.revocation.enabled=true)
+ * <p>
+ * - 저장은 MappedRevocationTable(메모리 맵 파일)이라 재시작 후에도 유지되고, 만료분은 compact-interval 마다 정리한다
+ * - jti 는 문자열 그대로 두 개의 64비트 해시로 바꿔 저장/조회한다 (조회 경로에서 할당하지 않는다)
+ * - 인스턴스 로컬 파일이므로 여러 인스턴스로 운영할 때는 sticky session 이 필요하다
+ * - 켜려면 file 에 절대 경로가 필요하다 (작업 디렉터리 기준 상대 경로는 읽기 전용/임시 디렉터리에서 기동 실패를 만든다)
+ * 비활성화 상태에서는 파일을 만들지 않으며 모든 토큰이 폐기되지 않은 것으로 본다
+ */
+@Slf4j
+@Component
+public class JwtRevocationList {
+
+  private static final long SEED1 = 0xcbf29ce484222325L;
+  private static final long SEED2 = 0x84222325cbf29ce4L;
+
+  private final MappedRevocationTable table;
+
+  public JwtRevocationList(
+      @Value("${security.revocation.enabled:false}") boolean enabled,
+      @Value("${security.revocation.file:}") String file,
+      @Value("${security.revocation.capacity:1000000}") long capacity,
+      MeterRegistry meterRegistry) {
+    this.table = enabled ? open(requireAbsolute(file), capacity) : null;
+    if (table != null) {
+      log.info("[Revocation] 폐기 목록 사용 file={}, capacity={}", table.file(), capacity);
+    }
+    if (table != null && meterRegistry != null) {
+      Gauge.builder("auth.revocation.entries", table, MappedRevocationTable::size)
+          .description("폐기 목록 레코드 수 (만료 후 정리 전 포함)")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 파일 없이 폐기를 쓰지 않는 인스턴스 (테스트/벤치마크용)
+   */
+  public static JwtRevocationList disabled() {
+    return new JwtRevocationList(false, null, 0, null);
+  }
+
+  public boolean isEnabled() {
+    return table != null;
+  }
+
+  /**
+   * 토큰 exp 까지 폐기 (비활성화, jti 없음, 이미 만료, 목록이 가득 참이면 false)
+   */
+  public boolean revoke(String tokenId, Instant expiresAt) {
+    if (table == null || tokenId == null) {
+      return false;
+    }
+    long now = Instant.now().getEpochSecond();
+    if (expiresAt.getEpochSecond() <= now) {
+      return false;
+    }
+    if (!table.add(hash(tokenId, SEED1), hash(tokenId, SEED2), expiresAt.getEpochSecond(), now)) {
+      log.error("[Revocation] 폐기 목록이 가득 차 등록 실패 (토큰은 exp 까지 유효) capacity={}", table.capacity());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 폐기되었고 아직 만료되지 않은 jti 면 true
+   */
+  public boolean isRevoked(String tokenId) {
+    if (table == null || tokenId == null) {
+      return false;
+    }
+    return table.contains(hash(tokenId, SEED1), hash(tokenId, SEED2), System.currentTimeMillis() / 1000);
+  }
+
+  @Scheduled(initialDelayString = "${security.revocation.compact-interval:1m}",
+      fixedDelayString = "${security.revocation.compact-interval:1m}")
+  public void compact() {
+    if (table == null) {
+      return;
+    }
+    long purged = table.compact(Instant.now().getEpochSecond());
+    log.debug("[Revocation] 폐기 목록 압축 {}건 정리, 남은 레코드 {}건", purged, table.size());
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    if (table != null) {
+      table.close();
+    }
+  }
+
+  private static Path requireAbsolute(String file) {
+    if (file == null || file.isBlank() || !Path.of(file).isAbsolute()) {
+      throw new IllegalArgumentException(
+          "[Revocation] security.revocation.enabled=true 이면 security.revocation.file 에 절대 경로가 필요합니다: " + file);
+    }
+    return Path.of(file);
+  }
+
+  private static MappedRevocationTable open(Path file, long capacity) {
+    try {
+      return new MappedRevocationTable(file, capacity);
+    } catch (IOException e) {
+      throw new UncheckedIOException("[Revocation] 폐기 목록 파일을 열 수 없습니다: " + file, e);
+    }
+  }
+
+  /**
+   * FNV-1a 64 + murmur3 fmix64 (문자 단위로 계산해 byte[] 를 만들지 않는다)
+   */
+  static long hash(String value, long seed) {
+    long h = seed;
+    for (int i = 0; i < value.length(); i++) {
+      h = (h ^ value.charAt(i)) * 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
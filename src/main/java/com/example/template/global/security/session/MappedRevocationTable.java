@@ -0,0 +1,452 @@
+package com.example.template.global.security.session;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 폐기한 토큰 id(jti) 를 만료 시각까지 보관하는 메모리 맵 파일 해시 테이블 + 힙 Bloom filter
+ * <p>
+ * 파일: 헤더 64바이트(magic 4 | version 4 | 슬롯 수 8) + 슬롯마다 24바이트 레코드(hash1 8 | hash2 8 | 만료 epoch 초 8, 0 이면 빈 슬롯)
+ * - 쓰기는 매핑된 페이지(OS 페이지 캐시)에 바로 반영되어 프로세스가 죽어도 남는다. 압축/종료 시 force() 로 디스크에 내린다
+ * - 열 때 헤더가 다르면(capacity 변경) 만료되지 않은 레코드만 새 크기로 옮기고, 형식이 깨졌으면 비우고 시작한다
+ * - 파일 잠금을 잡아 같은 파일을 두 프로세스가 쓰지 못하게 한다
+ * <p>
+ * 조회: Bloom filter(키당 10비트, 해시 7개)에 없으면 테이블을 보지 않고 false (폐기되지 않은 대부분의 요청, 할당 없음)
+ * 압축: 만료 레코드를 청크 단위 쓰기 잠금으로 backward shift 삭제하면서 새 Bloom filter 를 만들어 교체한다 (Bloom filter 는 삭제를 못 하므로)
+ * 동시성: 쓰기는 StampedLock 쓰기 잠금, 조회는 낙관적 읽기 후 검증하고 실패하면 읽기 잠금으로 다시 읽는다
+ */
+@Slf4j
+public final class MappedRevocationTable implements AutoCloseable {
+
+  static final int HEADER_SIZE = 64;
+  static final int RECORD_SIZE = 24;
+
+  private static final int MAGIC = 0x4A52564B; // "JRVK"
+  private static final int VERSION = 1;
+  private static final int HASH1 = 0;
+  private static final int HASH2 = 8;
+  private static final int EXPIRES_AT = 16;
+
+  private static final double MAX_LOAD_FACTOR = 0.5;
+  private static final long MAX_SLOTS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+  private static final int BLOOM_BITS_PER_KEY = 10;
+  private static final int BLOOM_HASHES = 7;
+  static final int COMPACT_CHUNK_SLOTS = 4096;
+
+  private final Path file;
+  private final FileChannel channel;
+  private final FileLock fileLock;
+  private final MappedByteBuffer buffer;
+  private final long slotMask;
+  private final int slotShift;
+  private final long capacity;
+  private final long bloomMask;
+  private final StampedLock lock = new StampedLock();
+
+  /**
+   * 조회용 Bloom filter (압축이 끝나면 새 배열로 교체)
+   */
+  private long[] bloom;
+
+  /**
+   * 압축 중 만들고 있는 Bloom filter (압축 중 추가된 키도 양쪽에 기록), 압축 중이 아니면 null
+   */
+  private long[] nextBloom;
+
+  /**
+   * 비어 있지 않은 슬롯 수 (만료되었지만 아직 압축되지 않은 레코드 포함), 쓰기 잠금 안에서만 변경
+   */
+  private long size;
+
+  public MappedRevocationTable(Path file, long capacity) throws IOException {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+    }
+    long slots = Long.highestOneBit(Math.max(16L, (long) Math.ceil(capacity / MAX_LOAD_FACTOR)) - 1) << 1;
+    if (slots > MAX_SLOTS) {
+      throw new IllegalArgumentException("capacity 가 너무 큽니다 (파일 하나는 2GB 이하): " + capacity);
+    }
+    this.file = file;
+    this.capacity = capacity;
+    this.slotMask = slots - 1;
+    this.slotShift = Long.numberOfLeadingZeros(slots) + 1;
+    long bloomBits = Long.highestOneBit(Math.max(64L, capacity * BLOOM_BITS_PER_KEY) - 1) << 1;
+    this.bloomMask = bloomBits - 1;
+    this.bloom = new long[(int) (bloomBits >>> 6)];
+
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      this.fileLock = tryLock(channel);
+      if (fileLock == null) {
+        throw new IllegalStateException("다른 프로세스가 사용 중인 폐기 목록 파일입니다: " + file);
+      }
+      boolean fresh = channel.size() == 0;
+      long[] carried = readExisting(slots);
+      this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + slots * RECORD_SIZE);
+      buffer.order(ByteOrder.nativeOrder());
+      if (carried == null) {
+        loadInPlace();
+      } else {
+        initialize(carried, fresh);
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 폐기 등록 (이미 있으면 만료 시각만 늦춘다)
+   * capacity 에 도달하면 만료분을 정리한 뒤에도 가득 차 있을 때 false
+   */
+  public boolean add(long hash1, long hash2, long expiresAtEpochSecond, long nowEpochSecond) {
+    long stamp = lock.writeLock();
+    try {
+      if (size >= capacity && purgeRangeLocked(0, slotMask + 1, nowEpochSecond) == 0) {
+        return false;
+      }
+      long slot = home(hash1);
+      long reusable = -1;
+      while (true) {
+        long expiresAt = expiresAt(slot);
+        if (expiresAt == 0) {
+          break;
+        }
+        if (buffer.getLong(offset(slot) + HASH1) == hash1 && buffer.getLong(offset(slot) + HASH2) == hash2) {
+          buffer.putLong(offset(slot) + EXPIRES_AT, Math.max(expiresAt, expiresAtEpochSecond));
+          return true;
+        }
+        if (reusable < 0 && expiresAt <= nowEpochSecond) {
+          reusable = slot;
+        }
+        slot = (slot + 1) & slotMask;
+      }
+      if (reusable < 0) {
+        size++;
+      }
+      write(reusable < 0 ? slot : reusable, hash1, hash2, expiresAtEpochSecond);
+      return true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * 만료되지 않은 폐기 레코드가 있으면 true
+   */
+  public boolean contains(long hash1, long hash2, long nowEpochSecond) {
+    long stamp = lock.tryOptimisticRead();
+    boolean revoked = find(hash1, hash2, nowEpochSecond);
+    if (lock.validate(stamp)) {
+      return revoked;
+    }
+    stamp = lock.readLock();
+    try {
+      return find(hash1, hash2, nowEpochSecond);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * 만료 레코드를 삭제하고 Bloom filter 를 다시 만든 뒤 디스크에 내린다, 삭제 수를 반환
+   * 청크마다 쓰기 잠금을 잡았다 놓으므로 조회/등록은 청크 하나만큼만 기다린다
+   */
+  public long compact(long nowEpochSecond) {
+    beginCompaction();
+    long purged = 0;
+    for (long start = 0; start <= slotMask; start += COMPACT_CHUNK_SLOTS) {
+      purged += compactChunk(start, nowEpochSecond);
+    }
+    finishCompaction();
+    return purged;
+  }
+
+  void beginCompaction() {
+    long stamp = lock.writeLock();
+    try {
+      nextBloom = new long[bloom.length];
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * [start, start + COMPACT_CHUNK_SLOTS) 의 만료 레코드를 지우고 남은 레코드를 새 Bloom filter 에 넣는다
+   * 청크 사이에 add 가 전체 정리를 하면서 아직 보지 않은 청크의 레코드를 이미 본 청크로 당길 수 있는데,
+   * 그렇게 옮겨진 레코드는 copy 가 새 Bloom filter 에 넣는다
+   */
+  long compactChunk(long start, long nowEpochSecond) {
+    long end = Math.min(slotMask + 1, start + COMPACT_CHUNK_SLOTS);
+    long stamp = lock.writeLock();
+    try {
+      long purged = purgeRangeLocked(start, end, nowEpochSecond);
+      for (long slot = start; slot < end; slot++) {
+        if (expiresAt(slot) != 0) {
+          addToBloom(nextBloom, buffer.getLong(offset(slot) + HASH1), buffer.getLong(offset(slot) + HASH2));
+        }
+      }
+      return purged;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  void finishCompaction() {
+    long stamp = lock.writeLock();
+    try {
+      bloom = nextBloom;
+      nextBloom = null;
+      buffer.force();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public long size() {
+    long stamp = lock.readLock();
+    try {
+      return size;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public long capacity() {
+    return capacity;
+  }
+
+  public Path file() {
+    return file;
+  }
+
+  /**
+   * 디스크에 내리고 파일 잠금을 푼다 (매핑은 GC 가 해제)
+   */
+  @Override
+  public void close() throws IOException {
+    long stamp = lock.writeLock();
+    try {
+      buffer.force();
+      fileLock.release();
+      channel.close();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private boolean find(long hash1, long hash2, long nowEpochSecond) {
+    long[] filter = bloom;
+    if (!mightContain(filter, hash1, hash2)) {
+      return false;
+    }
+    // 낙관적 읽기 중 쓰기가 끼어들어도 슬롯 수만큼만 돌고 끝난다 (결과는 호출자가 validate 로 버린다)
+    long slot = home(hash1);
+    for (long probes = 0; probes <= slotMask; probes++) {
+      int offset = offset(slot);
+      long expiresAt = buffer.getLong(offset + EXPIRES_AT);
+      if (expiresAt == 0) {
+        return false;
+      }
+      if (buffer.getLong(offset + HASH1) == hash1 && buffer.getLong(offset + HASH2) == hash2) {
+        return expiresAt > nowEpochSecond;
+      }
+      slot = (slot + 1) & slotMask;
+    }
+    return false;
+  }
+
+  private long purgeRangeLocked(long start, long end, long nowEpochSecond) {
+    long purged = 0;
+    for (long slot = start; slot < end; ) {
+      long expiresAt = expiresAt(slot);
+      if (expiresAt != 0 && expiresAt <= nowEpochSecond) {
+        // 뒤의 레코드가 당겨져 올 수 있으므로 같은 슬롯을 다시 검사
+        deleteAt(slot);
+        purged++;
+      } else {
+        slot++;
+      }
+    }
+    return purged;
+  }
+
+  /**
+   * backward shift 삭제: 빈 자리 뒤의 클러스터에서 home 이 (hole, j] 밖인 레코드를 hole 로 당긴다
+   */
+  private void deleteAt(long slot) {
+    long hole = slot;
+    long j = slot;
+    while (true) {
+      j = (j + 1) & slotMask;
+      if (expiresAt(j) == 0) {
+        break;
+      }
+      long home = home(buffer.getLong(offset(j) + HASH1));
+      boolean reachable = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+      if (!reachable) {
+        copy(j, hole);
+        hole = j;
+      }
+    }
+    buffer.putLong(offset(hole) + EXPIRES_AT, 0L);
+    size--;
+  }
+
+  private void write(long slot, long hash1, long hash2, long expiresAtEpochSecond) {
+    int offset = offset(slot);
+    buffer.putLong(offset + HASH1, hash1);
+    buffer.putLong(offset + HASH2, hash2);
+    buffer.putLong(offset + EXPIRES_AT, expiresAtEpochSecond);
+    addToBloom(bloom, hash1, hash2);
+    if (nextBloom != null) {
+      addToBloom(nextBloom, hash1, hash2);
+    }
+  }
+
+  private void copy(long from, long to) {
+    int source = offset(from);
+    int target = offset(to);
+    for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+      buffer.putLong(target + i, buffer.getLong(source + i));
+    }
+    if (nextBloom != null) {
+      // 압축 중이면 옮겨 간 슬롯이 이미 지나간 청크일 수 있다 (새 Bloom filter 에서 빠지면 폐기 토큰이 통과된다)
+      addToBloom(nextBloom, buffer.getLong(target + HASH1), buffer.getLong(target + HASH2));
+    }
+  }
+
+  private void addToBloom(long[] filter, long hash1, long hash2) {
+    // double hashing: i 번째 비트 = hash1 + i * hash2 (홀수 간격이라 비트가 겹쳐 돌지 않는다)
+    long combined = hash1;
+    long step = hash2 | 1;
+    for (int i = 0; i < BLOOM_HASHES; i++) {
+      long bit = combined & bloomMask;
+      filter[(int) (bit >>> 6)] |= 1L << bit;
+      combined += step;
+    }
+  }
+
+  private boolean mightContain(long[] filter, long hash1, long hash2) {
+    long combined = hash1;
+    long step = hash2 | 1;
+    for (int i = 0; i < BLOOM_HASHES; i++) {
+      long bit = combined & bloomMask;
+      if ((filter[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+      combined += step;
+    }
+    return true;
+  }
+
+  /**
+   * 기존 파일 헤더가 지금 설정과 다르면 옮길 레코드(hash1, hash2, 만료 순서로 펼친 배열), 그대로 쓸 수 있으면 null
+   */
+  private long[] readExisting(long slots) throws IOException {
+    long length = channel.size();
+    if (length == 0) {
+      return new long[0];
+    }
+    if (length < HEADER_SIZE) {
+      log.warn("[Revocation] 폐기 목록 파일 형식이 달라 비우고 시작합니다: {}", file);
+      return new long[0];
+    }
+    MappedByteBuffer existing = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+    existing.order(ByteOrder.nativeOrder());
+    long existingSlots = existing.getLong(8);
+    if (existing.getInt(0) != MAGIC || existing.getInt(4) != VERSION || existingSlots <= 0
+        || Long.bitCount(existingSlots) != 1 || length < HEADER_SIZE + existingSlots * RECORD_SIZE) {
+      log.warn("[Revocation] 폐기 목록 파일 형식이 달라 비우고 시작합니다: {}", file);
+      return new long[0];
+    }
+    if (existingSlots == slots) {
+      return null;
+    }
+    long now = System.currentTimeMillis() / 1000;
+    long[] records = new long[(int) Math.min(existingSlots, capacity) * 3];
+    int count = 0;
+    for (long slot = 0; slot < existingSlots && count < records.length; slot++) {
+      int offset = (int) (HEADER_SIZE + slot * RECORD_SIZE);
+      long expiresAt = existing.getLong(offset + EXPIRES_AT);
+      if (expiresAt > now) {
+        records[count++] = existing.getLong(offset + HASH1);
+        records[count++] = existing.getLong(offset + HASH2);
+        records[count++] = expiresAt;
+      }
+    }
+    log.info("[Revocation] capacity 변경으로 폐기 레코드 {}건을 새 파일 크기로 옮깁니다: {}", count / 3, file);
+    long[] carried = new long[count];
+    System.arraycopy(records, 0, carried, 0, count);
+    return carried;
+  }
+
+  /**
+   * 파일을 비우고 헤더를 쓴 뒤 옮길 레코드를 다시 넣는다 (새 파일은 이미 0 으로 채워져 있다)
+   */
+  private void initialize(long[] carried, boolean fresh) throws IOException {
+    if (!fresh) {
+      for (long slot = 0; slot <= slotMask; slot++) {
+        buffer.putLong(offset(slot) + EXPIRES_AT, 0L);
+      }
+    }
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(4, VERSION);
+    buffer.putLong(8, slotMask + 1);
+    channel.truncate(HEADER_SIZE + (slotMask + 1) * RECORD_SIZE);
+    long now = System.currentTimeMillis() / 1000;
+    for (int i = 0; i < carried.length; i += 3) {
+      add(carried[i], carried[i + 1], carried[i + 2], now);
+    }
+    buffer.force();
+  }
+
+  /**
+   * 그대로 쓸 수 있는 기존 파일: 크기를 세고 Bloom filter 를 채운다
+   */
+  private void loadInPlace() {
+    for (long slot = 0; slot <= slotMask; slot++) {
+      if (expiresAt(slot) != 0) {
+        size++;
+        addToBloom(bloom, buffer.getLong(offset(slot) + HASH1), buffer.getLong(offset(slot) + HASH2));
+      }
+    }
+    log.info("[Revocation] 폐기 목록 파일을 열었습니다: {}, 레코드 {}건 (만료분 포함)", file, size);
+  }
+
+  private static FileLock tryLock(FileChannel channel) throws IOException {
+    try {
+      return channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // 같은 JVM 의 다른 인스턴스가 이미 열었다
+      return null;
+    }
+  }
+
+  private long expiresAt(long slot) {
+    return buffer.getLong(offset(slot) + EXPIRES_AT);
+  }
+
+  private long home(long hash1) {
+    // Bloom filter 가 hash1 하위 비트를 쓰므로 슬롯은 곱셈 해시의 상위 비트로 고른다 (Fibonacci hashing)
+    return (hash1 * 0x9E3779B97F4A7C15L) >>> slotShift;
+  }
+
+  private static int offset(long slot) {
+    return (int) (HEADER_SIZE + slot * RECORD_SIZE);
+  }
+}
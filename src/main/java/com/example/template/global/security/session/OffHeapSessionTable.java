@@ -0,0 +1,276 @@
+package com.example.template.global.security.session;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 고정 크기(32바이트) 레코드를 direct ByteBuffer 에 저장하는 open addressing(linear probing) 해시 테이블
+ * <p>
+ * 레코드: key 상위 8 | key 하위 8 | userId 8 | 만료 epoch 초(unsigned int) 4 | role ordinal 1 | 상태 1 | 여백 2
+ * - 세션 수와 무관하게 힙에는 버퍼 객체 몇 개만 있어 GC 가 추적/복사할 객체가 늘지 않는다
+ * - 삭제는 backward shift 로 처리해 tombstone 이 쌓이지 않는다 (조회는 빈 슬롯에서 멈춘다)
+ * - 슬롯 수는 capacity / 0.75 이상의 2의 거듭제곱이며 세그먼트(최대 2^24 슬롯, 512MB) 단위로 할당한다
+ * <p>
+ * 동시성: 쓰기(put/remove/purge)는 StampedLock 쓰기 잠금, 조회는 낙관적 읽기 후 검증하고 실패하면 읽기 잠금으로 다시 읽는다
+ */
+public final class OffHeapSessionTable {
+
+  static final int RECORD_SIZE = 32;
+
+  private static final int KEY_HI = 0;
+  private static final int KEY_LO = 8;
+  private static final int USER_ID = 16;
+  private static final int EXPIRES_AT = 24;
+  private static final int ROLE = 28;
+  private static final int STATE = 29;
+
+  private static final byte EMPTY = 0;
+  private static final byte LIVE = 1;
+
+  private static final int SEGMENT_SHIFT = 24;
+  private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+  private static final double MAX_LOAD_FACTOR = 0.75;
+
+  /**
+   * 조회 결과 (만료되지 않은 세션만 반환)
+   */
+  public record Session(long userId, int roleOrdinal, long expiresAtEpochSecond) {
+  }
+
+  private final ByteBuffer[] segments;
+  private final long slotMask;
+  private final long capacity;
+  private final StampedLock lock = new StampedLock();
+
+  /**
+   * LIVE 레코드 수 (만료되었지만 아직 정리되지 않은 레코드 포함), 쓰기 잠금 안에서만 변경
+   */
+  private long size;
+
+  public OffHeapSessionTable(long capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+    }
+    long slots = Long.highestOneBit(Math.max(16L, (long) Math.ceil(capacity / MAX_LOAD_FACTOR)) - 1) << 1;
+    long segmentSlots = Math.min(slots, 1L << SEGMENT_SHIFT);
+    this.segments = new ByteBuffer[(int) (slots / segmentSlots)];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = ByteBuffer.allocateDirect((int) (segmentSlots * RECORD_SIZE)).order(ByteOrder.nativeOrder());
+    }
+    this.slotMask = slots - 1;
+    this.capacity = capacity;
+  }
+
+  /**
+   * 세션 추가 (key 는 무작위 128비트라 중복 확인을 하지 않는다)
+   * 만료된 레코드를 만나면 그 자리를 재사용하고, capacity 에 도달하면 만료분을 정리한 뒤에도 가득 차 있을 때 false
+   */
+  public boolean put(long keyHi, long keyLo, long userId, int roleOrdinal, long expiresAtEpochSecond,
+      long nowEpochSecond) {
+    long stamp = lock.writeLock();
+    try {
+      if (size >= capacity && purgeExpiredLocked(nowEpochSecond) == 0) {
+        return false;
+      }
+      long slot = home(keyLo);
+      while (true) {
+        byte state = state(slot);
+        if (state == EMPTY || isExpired(slot, nowEpochSecond)) {
+          write(slot, keyHi, keyLo, userId, roleOrdinal, expiresAtEpochSecond);
+          if (state == EMPTY) {
+            size++;
+          }
+          return true;
+        }
+        slot = (slot + 1) & slotMask;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * 만료되지 않은 세션 조회 (없으면 null)
+   */
+  public Session get(long keyHi, long keyLo, long nowEpochSecond) {
+    long stamp = lock.tryOptimisticRead();
+    Session session = find(keyHi, keyLo, nowEpochSecond);
+    if (lock.validate(stamp)) {
+      return session;
+    }
+    stamp = lock.readLock();
+    try {
+      return find(keyHi, keyLo, nowEpochSecond);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * 세션 삭제 (probe 길이만큼의 상수 시간), 있었으면 true
+   */
+  public boolean remove(long keyHi, long keyLo) {
+    long stamp = lock.writeLock();
+    try {
+      long slot = locate(keyHi, keyLo);
+      if (slot < 0) {
+        return false;
+      }
+      deleteAt(slot);
+      return true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * 만료된 레코드를 모두 삭제하고 삭제 수를 반환 (전체 슬롯 순회)
+   */
+  public long purgeExpired(long nowEpochSecond) {
+    long stamp = lock.writeLock();
+    try {
+      return purgeExpiredLocked(nowEpochSecond);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public long size() {
+    long stamp = lock.readLock();
+    try {
+      return size;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public long capacity() {
+    return capacity;
+  }
+
+  /**
+   * 할당한 off-heap 바이트 수
+   */
+  public long allocatedBytes() {
+    return (slotMask + 1) * RECORD_SIZE;
+  }
+
+  private Session find(long keyHi, long keyLo, long nowEpochSecond) {
+    // 낙관적 읽기 중 쓰기가 끼어들어도 슬롯 수만큼만 돌고 끝난다 (결과는 호출자가 validate 로 버린다)
+    long slot = home(keyLo);
+    for (long probes = 0; probes <= slotMask; probes++) {
+      ByteBuffer segment = segment(slot);
+      int offset = offset(slot);
+      if (segment.get(offset + STATE) == EMPTY) {
+        return null;
+      }
+      if (segment.getLong(offset + KEY_LO) == keyLo && segment.getLong(offset + KEY_HI) == keyHi) {
+        long expiresAt = Integer.toUnsignedLong(segment.getInt(offset + EXPIRES_AT));
+        if (expiresAt <= nowEpochSecond) {
+          return null;
+        }
+        return new Session(segment.getLong(offset + USER_ID), segment.get(offset + ROLE), expiresAt);
+      }
+      slot = (slot + 1) & slotMask;
+    }
+    return null;
+  }
+
+  private long locate(long keyHi, long keyLo) {
+    long slot = home(keyLo);
+    while (state(slot) != EMPTY) {
+      ByteBuffer segment = segment(slot);
+      int offset = offset(slot);
+      if (segment.getLong(offset + KEY_LO) == keyLo && segment.getLong(offset + KEY_HI) == keyHi) {
+        return slot;
+      }
+      slot = (slot + 1) & slotMask;
+    }
+    return -1;
+  }
+
+  private long purgeExpiredLocked(long nowEpochSecond) {
+    long purged = 0;
+    for (long slot = 0; slot <= slotMask; ) {
+      if (state(slot) == LIVE && isExpired(slot, nowEpochSecond)) {
+        // 뒤의 레코드가 당겨져 올 수 있으므로 같은 슬롯을 다시 검사
+        deleteAt(slot);
+        purged++;
+      } else {
+        slot++;
+      }
+    }
+    return purged;
+  }
+
+  /**
+   * backward shift 삭제: 빈 자리 뒤의 클러스터에서 home 이 (hole, j] 밖인 레코드를 hole 로 당긴다
+   */
+  private void deleteAt(long slot) {
+    long hole = slot;
+    long j = slot;
+    while (true) {
+      j = (j + 1) & slotMask;
+      if (state(j) == EMPTY) {
+        break;
+      }
+      long home = home(segment(j).getLong(offset(j) + KEY_LO));
+      boolean reachable = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+      if (!reachable) {
+        copy(j, hole);
+        hole = j;
+      }
+    }
+    segment(hole).put(offset(hole) + STATE, EMPTY);
+    size--;
+  }
+
+  private void write(long slot, long keyHi, long keyLo, long userId, int roleOrdinal, long expiresAtEpochSecond) {
+    ByteBuffer segment = segment(slot);
+    int offset = offset(slot);
+    segment.putLong(offset + KEY_HI, keyHi);
+    segment.putLong(offset + KEY_LO, keyLo);
+    segment.putLong(offset + USER_ID, userId);
+    segment.putInt(offset + EXPIRES_AT, (int) expiresAtEpochSecond);
+    segment.put(offset + ROLE, (byte) roleOrdinal);
+    segment.put(offset + STATE, LIVE);
+  }
+
+  private void copy(long from, long to) {
+    ByteBuffer source = segment(from);
+    ByteBuffer target = segment(to);
+    int sourceOffset = offset(from);
+    int targetOffset = offset(to);
+    for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+      target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+    }
+  }
+
+  private boolean isExpired(long slot, long nowEpochSecond) {
+    return Integer.toUnsignedLong(segment(slot).getInt(offset(slot) + EXPIRES_AT)) <= nowEpochSecond;
+  }
+
+  private byte state(long slot) {
+    return segment(slot).get(offset(slot) + STATE);
+  }
+
+  private long home(long keyLo) {
+    // murmur3 fmix64: key 가 무작위가 아니어도 슬롯이 고르게 퍼지도록
+    long h = keyLo;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h & slotMask;
+  }
+
+  private ByteBuffer segment(long slot) {
+    return segments[(int) (slot >>> SEGMENT_SHIFT)];
+  }
+
+  private static int offset(long slot) {
+    return (int) (slot & SEGMENT_MASK) * RECORD_SIZE;
+  }
+}
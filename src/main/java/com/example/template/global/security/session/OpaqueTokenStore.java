@@ -0,0 +1,137 @@
+package com.example.template.global.security.session;
+
+import com.example.template.global.common.entity.Role;
+import com.example.template.global.common.exception.ApiExceptions;
+import com.example.template.global.security.service.TokenClaims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 불투명(opaque) 액세스 토큰 발급/조회/폐기 (security.opaque-token.enabled=true 일 때 JWT 대신 발급)
+ * <p>
+ * 토큰은 "ot_" + 128비트 난수(Base64URL)이고 (userId, role, 만료)는 OffHeapSessionTable 에만 있다
+ * - 요청마다 DB 를 읽지 않고 조회하며, 폐기(로그아웃)하면 다음 요청부터 즉시 거부된다
+ * - 인스턴스 로컬 테이블이므로 여러 인스턴스로 운영할 때는 sticky session 이 필요하고, 재시작하면 모두 재로그인해야 한다
+ * 비활성화 상태에서는 테이블을 할당하지 않으며 "ot_" 토큰은 모두 유효하지 않다
+ */
+@Slf4j
+@Component
+public class OpaqueTokenStore {
+
+  public static final String TOKEN_PREFIX = "ot_";
+  private static final int TOKEN_BYTES = 16;
+  private static final int ENCODED_LENGTH = TOKEN_PREFIX.length() + 22;
+  private static final Role[] ROLES = Role.values();
+
+  private final OffHeapSessionTable table;
+  private final long validitySeconds;
+  private final SecureRandom random = new SecureRandom();
+
+  public OpaqueTokenStore(
+      @Value("${security.opaque-token.enabled:false}") boolean enabled,
+      @Value("${security.opaque-token.capacity:1000000}") long capacity,
+      @Value("${jwt.access-token-validity-in-seconds:1800}") long validitySeconds,
+      MeterRegistry meterRegistry) {
+    this.table = enabled ? new OffHeapSessionTable(capacity) : null;
+    this.validitySeconds = validitySeconds;
+    if (table != null) {
+      log.info("[OpaqueToken] 세션 테이블 할당 capacity={}, offHeapBytes={}", capacity, table.allocatedBytes());
+      Gauge.builder("auth.opaque.sessions", table, OffHeapSessionTable::size)
+          .description("불투명 토큰 세션 수 (만료 후 정리 전 포함)")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 테이블 없이 JWT 만 쓰는 인스턴스 (테스트/벤치마크용)
+   */
+  public static OpaqueTokenStore disabled() {
+    return new OpaqueTokenStore(false, 0, 0, null);
+  }
+
+  public boolean isEnabled() {
+    return table != null;
+  }
+
+  public static boolean isOpaque(String token) {
+    return token.startsWith(TOKEN_PREFIX);
+  }
+
+  /**
+   * 새 토큰 발급 (테이블이 가득 차면 503)
+   */
+  public String issue(Long userId, Role role) {
+    if (table == null) {
+      throw new IllegalStateException("[OpaqueToken] security.opaque-token.enabled=false 에서는 발급할 수 없습니다.");
+    }
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    ByteBuffer key = ByteBuffer.wrap(bytes);
+    long now = Instant.now().getEpochSecond();
+    if (!table.put(key.getLong(0), key.getLong(Long.BYTES), userId, role.ordinal(), now + validitySeconds, now)) {
+      log.error("[OpaqueToken] 세션 테이블이 가득 차 발급 실패 capacity={}", table.capacity());
+      throw ApiExceptions.SESSION_CAPACITY_EXCEEDED;
+    }
+    return TOKEN_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  /**
+   * 유효한 토큰이면 클레임(email 없음), 없거나 만료/폐기되었으면 null
+   */
+  public TokenClaims resolve(String token) {
+    byte[] key = decode(token);
+    if (key == null) {
+      return null;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(key);
+    OffHeapSessionTable.Session session = table.get(buffer.getLong(0), buffer.getLong(Long.BYTES),
+        Instant.now().getEpochSecond());
+    if (session == null) {
+      return null;
+    }
+    return new TokenClaims(session.userId(), null, ROLES[session.roleOrdinal()].name(),
+        Instant.ofEpochSecond(session.expiresAtEpochSecond()), null);
+  }
+
+  /**
+   * 토큰 폐기 (불투명 토큰이 아니거나 없으면 false)
+   */
+  public boolean revoke(String token) {
+    byte[] key = decode(token);
+    if (key == null) {
+      return false;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(key);
+    return table.remove(buffer.getLong(0), buffer.getLong(Long.BYTES));
+  }
+
+  @Scheduled(initialDelayString = "${security.opaque-token.purge-interval:5m}",
+      fixedDelayString = "${security.opaque-token.purge-interval:5m}")
+  public void purgeExpired() {
+    if (table == null) {
+      return;
+    }
+    long purged = table.purgeExpired(Instant.now().getEpochSecond());
+    log.debug("[OpaqueToken] 만료 세션 정리 {}건, 남은 세션 {}건", purged, table.size());
+  }
+
+  private byte[] decode(String token) {
+    if (table == null || token == null || token.length() != ENCODED_LENGTH || !isOpaque(token)) {
+      return null;
+    }
+    try {
+      return Base64.getUrlDecoder().decode(token.substring(TOKEN_PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.template.global.warmup;
+
+import com.example.template.domain.user.dto.LoginRequestDto;
+import com.example.template.domain.user.dto.TokenResponseDto;
+import com.example.template.global.common.util.ApiResult;
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.monitoring.TimedPasswordEncoder;
+import com.example.template.global.security.service.JwtKeyRing;
+import com.example.template.global.security.service.JwtTokenProvider;
+import com.example.template.global.security.service.TokenClaims;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 직후 요청 경로의 핫 코드(JWT 서명/검증, ApiResult/TokenResponseDto JSON 직렬화, BCrypt)를 합성 호출로 미리 돌려
+ * C1/C2 컴파일을 끝낸 뒤 트래픽을 받게 한다
+ * <p>
+ * ApplicationRunner 는 ApplicationReadyEvent 전에 실행되므로, 워밍업이 끝나거나 warm-up.timeout 이 지나야
+ * readiness 가 ACCEPTING_TRAFFIC 으로 바뀐다 (/actuator/health/readiness)
+ * 토큰은 운영과 같은 JwtKeyRing 으로 서명/검증해 설정된 알고리즘(HS256/ES256/EdDSA)의 경로를 데운다
+ * 메트릭 없는 별도 JwtTokenProvider 인스턴스를 써서 인증 메트릭에 합성 호출이 섞이지 않는다 (JIT 프로파일은 메서드 단위라 같은 코드가 데워진다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+  private static final long SYNTHETIC_USER_ID = 0L;
+  private static final String SYNTHETIC_EMAIL = "warm-up@template.local";
+  private static final String SYNTHETIC_PASSWORD = "WarmUp-Password1!";
+  private static final String SYNTHETIC_ROLE = "GENERAL";
+
+  private final ObjectMapper objectMapper;
+  private final JwtKeyRing keyRing;
+  private final int iterations;
+  private final int passwordIterations;
+  private final int threads;
+  private final Duration timeout;
+
+  public WarmUpRunner(ObjectMapper objectMapper, JwtKeyRing keyRing,
+      @Value("${warm-up.iterations:20000}") int iterations,
+      @Value("${warm-up.password-iterations:8}") int passwordIterations,
+      @Value("${warm-up.threads:2}") int threads,
+      @Value("${warm-up.timeout:30s}") Duration timeout) {
+    this.objectMapper = objectMapper;
+    this.keyRing = keyRing;
+    this.iterations = iterations;
+    this.passwordIterations = passwordIterations;
+    this.threads = Math.max(1, threads);
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws InterruptedException {
+    warmUp();
+  }
+
+  /**
+   * 스레드마다 iterations / threads 번씩 토큰·JSON 루프를, passwordIterations / threads 번씩 BCrypt 를 실행
+   * 제한 시간 안에 끝나면 true, 시간이 지나면 남은 작업을 중단하고 false
+   */
+  public boolean warmUp() throws InterruptedException {
+    long start = System.nanoTime();
+    JwtTokenProvider tokenProvider = new JwtTokenProvider(keyRing, 60, 60, AuthMetrics.noop());
+    PasswordEncoder passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(), AuthMetrics.noop());
+    AtomicBoolean stopped = new AtomicBoolean();
+    AtomicInteger failures = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(threads);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "warm-up");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      for (int i = 0; i < threads; i++) {
+        executor.execute(() -> {
+          try {
+            warmUpTokensAndJson(tokenProvider, Math.max(1, iterations / threads), stopped);
+            warmUpPasswords(passwordEncoder, Math.max(1, passwordIterations / threads), stopped);
+          } catch (RuntimeException | JsonProcessingException e) {
+            failures.incrementAndGet();
+            log.warn("[WarmUp] 합성 호출 실패: {}", e.getMessage());
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+      boolean completed = done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      if (completed) {
+        log.info("[WarmUp] 완료 {}ms (threads={}, iterations={}, passwordIterations={}, failures={})",
+            elapsedMillis, threads, iterations, passwordIterations, failures.get());
+      } else {
+        log.warn("[WarmUp] 제한 시간 {} 초과로 중단하고 트래픽을 받습니다. ({}ms)", timeout, elapsedMillis);
+      }
+      return completed && failures.get() == 0;
+    } finally {
+      stopped.set(true);
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 로그인/재발급 응답 경로(토큰 2개 서명 + ApiResult 직렬화)와 인증 필터 경로(파싱/서명 검증), 로그인 요청 역직렬화
+   */
+  private void warmUpTokensAndJson(JwtTokenProvider tokenProvider, int count, AtomicBoolean stopped)
+      throws JsonProcessingException {
+    byte[] loginRequest = objectMapper.writeValueAsBytes(new LoginRequestDto(SYNTHETIC_EMAIL, SYNTHETIC_PASSWORD));
+    for (int i = 0; i < count && !stopped.get(); i++) {
+      String accessToken = tokenProvider.createAccessToken(SYNTHETIC_USER_ID, SYNTHETIC_EMAIL, SYNTHETIC_ROLE);
+      String refreshToken = tokenProvider.createRefreshToken(SYNTHETIC_USER_ID, SYNTHETIC_EMAIL, SYNTHETIC_ROLE);
+      TokenClaims claims = tokenProvider.parseAccessToken(accessToken);
+
+      objectMapper.readValue(loginRequest, LoginRequestDto.class);
+      objectMapper.writeValueAsBytes(ApiResult.success(new TokenResponseDto(
+          claims.userId(), claims.email(), "warm-up", claims.role(), accessToken, refreshToken)));
+    }
+  }
+
+  private void warmUpPasswords(PasswordEncoder passwordEncoder, int count, AtomicBoolean stopped) {
+    for (int i = 0; i < count && !stopped.get(); i++) {
+      passwordEncoder.matches(SYNTHETIC_PASSWORD, passwordEncoder.encode(SYNTHETIC_PASSWORD));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.template.openapi;
+
+import com.example.template.MvcTemplateApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 빌드 시 앱(test 프로필, H2)을 랜덤 포트로 띄워 springdoc 이 만든 /v3/api-docs 를 받아
+ * openapi.json 과 미리 압축한 openapi.json.gz 로 저장한다 (./gradlew generateOpenApi)
+ * 실행 중인 인스턴스는 이 파일을 정적 리소스(/openapi/openapi.json)로만 제공하고 springdoc 스캔은 하지 않는다
+ */
+public final class OpenApiSpecGenerator {
+
+  static final String[] REQUIRED_PATHS = {"/api/auth/login", "/api/auth/signUp", "/api/user/me"};
+
+  private OpenApiSpecGenerator() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Path outputDir = Path.of(args[0]);
+
+    SpringApplication application = new SpringApplication(MvcTemplateApplication.class);
+    ConfigurableApplicationContext context = application.run(
+        "--spring.profiles.active=test",
+        "--server.port=0",
+        "--springdoc.api-docs.enabled=true",
+        // 공개 API(AuthController, UserController)만 문서화
+        "--springdoc.paths-to-match=/api/**");
+    try {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      byte[] spec = fetch("http://localhost:" + port + "/v3/api-docs");
+      verify(spec);
+      write(outputDir, spec);
+    } finally {
+      context.close();
+    }
+  }
+
+  private static byte[] fetch(String url) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = HttpClient.newHttpClient()
+        .send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("[OpenApi] 문서 조회 실패 status=" + response.statusCode());
+    }
+    return response.body();
+  }
+
+  private static void verify(byte[] spec) {
+    String json = new String(spec, StandardCharsets.UTF_8);
+    for (String path : REQUIRED_PATHS) {
+      if (!json.contains("\"" + path + "\"")) {
+        throw new IllegalStateException("[OpenApi] 생성된 문서에 " + path + " 가 없습니다.");
+      }
+    }
+  }
+
+  private static void write(Path outputDir, byte[] spec) throws IOException {
+    Files.createDirectories(outputDir);
+    Files.write(outputDir.resolve("openapi.json"), spec);
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(outputDir.resolve("openapi.json.gz")))) {
+      out.write(spec);
+    }
+  }
+}
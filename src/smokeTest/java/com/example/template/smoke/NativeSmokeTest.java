@@ -0,0 +1,148 @@
+package com.example.template.smoke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * nativeCompile 로 만든 실행 파일을 local 프로필(H2)로 띄우고 가입 → 로그인 → /me → 재발급 흐름을 HTTP 로 확인
+ * ./gradlew nativeSmokeTest (smoke.binary 로 실행 파일 경로 지정)
+ */
+class NativeSmokeTest {
+
+  private static final Duration READY_TIMEOUT = Duration.ofSeconds(30);
+  private static final String EMAIL = "smoke@native.test";
+  private static final String PASSWORD = "Password123!";
+
+  private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(1))
+      .build();
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static Process process;
+  private static String baseUrl;
+
+  @BeforeAll
+  static void startBinary() throws Exception {
+    Path binary = Path.of(System.getProperty("smoke.binary", "build/native/nativeCompile/mvc-template"));
+    assertThat(Files.isExecutable(binary)).as("native 실행 파일: " + binary).isTrue();
+
+    int port = freePort();
+    baseUrl = "http://localhost:" + port;
+    long start = System.nanoTime();
+    process = new ProcessBuilder(List.of(
+        binary.toAbsolutePath().toString(),
+        "--spring.profiles.active=local",
+        "--spring.jpa.show-sql=false",
+        "--server.port=" + port))
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+        .start();
+    awaitReady();
+    System.out.printf("[NativeSmoke] ready in %dms%n", (System.nanoTime() - start) / 1_000_000);
+  }
+
+  @AfterAll
+  static void stopBinary() throws InterruptedException {
+    if (process != null) {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  @Test
+  @DisplayName("native - 가입, 로그인, /me, 재발급이 JVM 과 같은 응답을 준다")
+  void signUpLoginMeRefresh() throws Exception {
+    // 가입
+    HttpResponse<String> signUp = post("/api/auth/signUp",
+        "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\",\"name\":\"홍길동\"}", null);
+    assertThat(signUp.statusCode()).isEqualTo(200);
+
+    // 로그인
+    HttpResponse<String> login = post("/api/auth/login",
+        "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}", null);
+    assertThat(login.statusCode()).isEqualTo(200);
+    JsonNode tokens = OBJECT_MAPPER.readTree(login.body()).path("data");
+    assertThat(tokens.path("email").asText()).isEqualTo(EMAIL);
+
+    // /me
+    HttpResponse<String> me = get("/api/user/me", tokens.path("accessToken").asText());
+    assertThat(me.statusCode()).isEqualTo(200);
+    assertThat(OBJECT_MAPPER.readTree(me.body()).path("data").path("email").asText()).isEqualTo(EMAIL);
+
+    // 재발급 후 새 액세스 토큰으로 /me
+    HttpResponse<String> refresh = post("/api/auth/refresh", "", tokens.path("refreshToken").asText());
+    assertThat(refresh.statusCode()).isEqualTo(200);
+    String renewedAccessToken = OBJECT_MAPPER.readTree(refresh.body()).path("data").path("accessToken").asText();
+    assertThat(get("/api/user/me", renewedAccessToken).statusCode()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("native - 토큰 없이 /me 를 호출하면 401 공통 실패 응답을 준다")
+  void me_returnsUnauthorized_withoutToken() throws Exception {
+    HttpResponse<String> me = get("/api/user/me", null);
+
+    assertThat(me.statusCode()).isEqualTo(401);
+    assertThat(OBJECT_MAPPER.readTree(me.body()).path("success").asBoolean()).isFalse();
+  }
+
+  private static HttpResponse<String> post(String path, String json, String refreshToken) throws Exception {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8));
+    if (refreshToken != null) {
+      builder.header("refreshToken", refreshToken);
+    }
+    return HTTP_CLIENT.send(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+  }
+
+  private static HttpResponse<String> get(String path, String accessToken) throws Exception {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    if (accessToken != null) {
+      builder.header("Authorization", "Bearer " + accessToken);
+    }
+    return HTTP_CLIENT.send(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+  }
+
+  private static void awaitReady() throws InterruptedException {
+    HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET().build();
+    long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("[NativeSmoke] 실행 파일이 기동 중 종료되었습니다. exit=" + process.exitValue());
+      }
+      try {
+        if (HTTP_CLIENT.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // 아직 포트가 열리지 않음
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("[NativeSmoke] " + READY_TIMEOUT.toSeconds() + "초 안에 준비되지 않았습니다.");
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
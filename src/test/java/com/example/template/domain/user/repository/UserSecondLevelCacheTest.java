@@ -0,0 +1,89 @@
+package com.example.template.domain.user.repository;
+
+import com.example.template.domain.user.entity.User;
+import com.example.template.global.common.entity.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.example.template.support.SqlStatementCount.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserSecondLevelCacheTest {
+
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Long userId;
+
+  @BeforeEach
+  void setUp() {
+    userId = userRepository.save(User.builder()
+        .email("cache@test.com")
+        .password("encodedPw")
+        .name("홍길동")
+        .role(Role.GENERAL)
+        .build()).getUserId();
+    entityManagerFactory.getCache().evictAll();
+  }
+
+  @AfterEach
+  void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("findById - 두 번째 조회부터 user 리전에서 읽고 SQL 을 실행하지 않는다")
+  void findById_hitsEntityCache_afterFirstLoad() {
+    // given
+    assertStatements(1, () -> userRepository.findById(userId));
+
+    // when & then
+    assertStatements(0, () -> userRepository.findById(userId));
+  }
+
+  @Test
+  @DisplayName("findByEmail - 두 번째 조회부터 user-email/user 리전에서 읽고 SQL 을 실행하지 않는다")
+  void findByEmail_hitsNaturalIdCache_afterFirstLoad() {
+    // given
+    assertStatements(1, () -> userRepository.findByEmail("cache@test.com"));
+
+    // when & then
+    assertStatements(0, () -> assertThat(userRepository.findByEmail("cache@test.com")).isPresent());
+  }
+
+  @Test
+  @DisplayName("changeRole/changeEmail - 커밋 후 캐시된 엔티티와 natural id 가 갱신된다")
+  void changes_updateCachedEntries() {
+    // given: 캐시 적재
+    userRepository.findById(userId);
+    userRepository.findByEmail("cache@test.com");
+
+    // when
+    transactionTemplate.executeWithoutResult(status -> {
+      User user = userRepository.findById(userId).orElseThrow();
+      user.changeRole(Role.ADMIN);
+      user.changeEmail("changed@test.com");
+    });
+
+    // then
+    assertThat(userRepository.findById(userId).orElseThrow().getRole()).isEqualTo(Role.ADMIN);
+    assertThat(userRepository.findByEmail("cache@test.com")).isEmpty();
+    assertThat(userRepository.findByEmail("changed@test.com"))
+        .get()
+        .extracting(User::getUserId)
+        .isEqualTo(userId);
+  }
+}
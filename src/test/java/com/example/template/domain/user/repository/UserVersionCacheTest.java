@@ -0,0 +1,89 @@
+package com.example.template.domain.user.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserVersionCacheTest {
+
+  private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+  @Mock
+  private UserRepository userRepository;
+
+  private UserVersionCache userVersionCache;
+
+  @BeforeEach
+  void setUp() {
+    userVersionCache = new UserVersionCache(userRepository, 100, Duration.ofMinutes(10));
+  }
+
+  @Test
+  @DisplayName("eTagOf - 처음 한 번만 modifiedAt 을 조회하고 이후에는 캐시에서 반환한다")
+  void eTagOf_loadsOnce_thenServesFromCache() {
+    // given
+    given(userRepository.findModifiedAtByUserId(1L)).willReturn(Optional.of(MODIFIED_AT));
+
+    // when
+    Optional<String> first = userVersionCache.eTagOf(1L);
+    Optional<String> second = userVersionCache.eTagOf(1L);
+
+    // then
+    assertThat(first).contains(UserVersionCache.eTagOf(1L, MODIFIED_AT));
+    assertThat(second).isEqualTo(first);
+    verify(userRepository, times(1)).findModifiedAtByUserId(1L);
+  }
+
+  @Test
+  @DisplayName("evict - 제거 후에는 바뀐 modifiedAt 으로 새 ETag 를 만든다")
+  void evict_reloadsChangedVersion() {
+    // given
+    given(userRepository.findModifiedAtByUserId(1L))
+        .willReturn(Optional.of(MODIFIED_AT), Optional.of(MODIFIED_AT.plusNanos(1_000)));
+    String before = userVersionCache.eTagOf(1L).orElseThrow();
+
+    // when
+    userVersionCache.evict(1L);
+    String after = userVersionCache.eTagOf(1L).orElseThrow();
+
+    // then
+    assertThat(after).isNotEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("eTagOf - 없는 사용자는 empty 이고 캐시하지 않는다")
+  void eTagOf_returnsEmpty_andDoesNotCache_whenUserMissing() {
+    // given
+    given(userRepository.findModifiedAtByUserId(99L)).willReturn(Optional.empty());
+
+    // when
+    userVersionCache.eTagOf(99L);
+    Optional<String> eTag = userVersionCache.eTagOf(99L);
+
+    // then
+    assertThat(eTag).isEmpty();
+    verify(userRepository, times(2)).findModifiedAtByUserId(99L);
+  }
+
+  @Test
+  @DisplayName("eTagOf(userId, modifiedAt) - 따옴표로 감싼 강한 ETag 이고 사용자마다 다르다")
+  void eTagOf_isQuotedStrongETag_perUser() {
+    String eTag = UserVersionCache.eTagOf(1L, MODIFIED_AT);
+
+    assertThat(eTag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+    assertThat(eTag).isNotEqualTo(UserVersionCache.eTagOf(2L, MODIFIED_AT));
+  }
+}
@@ -4,13 +4,20 @@ import com.example.template.domain.refreshtoken.entity.RefreshToken;
 import com.example.template.domain.refreshtoken.repository.RefreshTokenRepository;
 import com.example.template.domain.user.dto.LoginRequestDto;
 import com.example.template.domain.user.dto.SignUpRequestDto;
+import com.example.template.domain.user.dto.TokenResponseDto;
 import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
 import com.example.template.domain.user.service.impl.AuthServiceImpl;
 import com.example.template.global.common.entity.Role;
 import com.example.template.global.common.exception.ApiException;
 import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.datasource.ReadYourWritesTracker;
+import com.example.template.global.monitoring.AuthMetrics;
 import com.example.template.global.security.service.JwtTokenProvider;
+import com.example.template.global.security.service.TokenClaims;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import io.jsonwebtoken.MalformedJwtException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,12 +30,15 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
@@ -45,6 +55,10 @@ class AuthServiceImplTest {
     @Mock private AuthenticationManager authenticationManager;
     @Mock private RefreshTokenRepository refreshTokenRepository;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private AuthMetrics authMetrics;
+    @Mock private ReadYourWritesTracker readYourWritesTracker;
+    @Mock private OpaqueTokenStore opaqueTokenStore;
+    @Mock private JwtRevocationList jwtRevocationList;
 
     @Test
     @DisplayName("signUp - 새로운 이메일이면 암호화 후 GENERAL 권한으로 저장한다")
@@ -175,7 +189,7 @@ class AuthServiceImplTest {
     @DisplayName("refreshToken - 토큰 검증 실패 시 ApiException(UNAUTHORIZED) 발생")
     void refreshToken_throwsUnauthorized_whenTokenInvalid() {
         // given: 토큰 검증 실패
-        given(jwtTokenProvider.validateToken("badToken")).willReturn(false);
+        given(jwtTokenProvider.parseToken("badToken")).willThrow(new MalformedJwtException("malformed"));
 
         // when & then
         assertThatThrownBy(() -> authService.refreshToken("badToken"))
@@ -188,8 +202,7 @@ class AuthServiceImplTest {
     @DisplayName("refreshToken - 저장된 토큰 없으면 ApiException(NOT_FOUND) 발생")
     void refreshToken_throwsNotFound_whenStoredTokenMissing() {
         // given: 토큰 검증 성공하지만 저장된 토큰 없음
-        given(jwtTokenProvider.validateToken("refresh")).willReturn(true);
-        given(jwtTokenProvider.getUserIdFromToken("refresh")).willReturn(1L);
+        given(jwtTokenProvider.parseToken("refresh")).willReturn(refreshClaims());
         given(refreshTokenRepository.findByUserId(1L)).willReturn(Optional.empty());
 
         // when & then
@@ -209,8 +222,7 @@ class AuthServiceImplTest {
                 .tokenHash("storedHash")
                 .expiresAt(LocalDateTime.now().minusMinutes(1))
                 .build();
-        given(jwtTokenProvider.validateToken("refresh")).willReturn(true);
-        given(jwtTokenProvider.getUserIdFromToken("refresh")).willReturn(1L);
+        given(jwtTokenProvider.parseToken("refresh")).willReturn(refreshClaims());
         given(refreshTokenRepository.findByUserId(1L)).willReturn(Optional.of(stored));
 
         // when & then
@@ -230,8 +242,7 @@ class AuthServiceImplTest {
                 .tokenHash("otherHash")
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .build();
-        given(jwtTokenProvider.validateToken("input")).willReturn(true);
-        given(jwtTokenProvider.getUserIdFromToken("input")).willReturn(1L);
+        given(jwtTokenProvider.parseToken("input")).willReturn(refreshClaims());
         given(refreshTokenRepository.findByUserId(1L)).willReturn(Optional.of(stored));
         given(passwordEncoder.matches("input", "otherHash")).willReturn(false);
 
@@ -252,11 +263,8 @@ class AuthServiceImplTest {
                 .tokenHash("storedHash")
                 .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
-        given(jwtTokenProvider.validateToken("refresh")).willReturn(true);
-        given(jwtTokenProvider.getUserIdFromToken("refresh")).willReturn(1L);
+        given(jwtTokenProvider.parseToken("refresh")).willReturn(refreshClaims());
         given(refreshTokenRepository.findByUserId(1L)).willReturn(Optional.of(stored));
-        given(jwtTokenProvider.getEmailFromToken("refresh")).willReturn("user@test.com");
-        given(jwtTokenProvider.getRoleFromToken("refresh")).willReturn("GENERAL");
         given(jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL")).willReturn("newAccess");
         given(jwtTokenProvider.createRefreshToken(1L, "user@test.com", "GENERAL")).willReturn("newRefresh");
         given(jwtTokenProvider.getRefreshTokenValidityInSeconds()).willReturn(604800L);
@@ -270,19 +278,65 @@ class AuthServiceImplTest {
         assertThat(stored.getTokenHash()).isEqualTo("newHashedRefresh");
         assertThat(stored.getExpiresAt()).isAfter(LocalDateTime.now().minusSeconds(1));
         verify(refreshTokenRepository).save(stored);
+        verify(jwtTokenProvider).parseToken("refresh"); // 서명 검증은 한 번만
     }
 
     @Test
-    @DisplayName("logout - userId로 리프레시 토큰을 삭제한다")
+    @DisplayName("logout - userId로 리프레시 토큰을 삭제하고 access token 을 폐기한다")
     void logout_deletesRefreshTokenByUserId() {
         // given: 삭제 대상 userId
         Long userId = 1L;
 
         // when
-        authService.logout(userId);
+        authService.logout(userId, "ot_access");
 
         // then
         verify(refreshTokenRepository).deleteByUserId(userId);
+        verify(opaqueTokenStore).revoke("ot_access");
+    }
+
+    @Test
+    @DisplayName("logout - JWT access token 은 jti 를 exp 까지 폐기 목록에 등록한다")
+    void logout_revokesJwtAccessTokenId() {
+        // given: 로그아웃 요청에 담긴 JWT access token
+        Instant expiresAt = Instant.now().plusSeconds(900);
+        given(jwtTokenProvider.parseToken("jwtAccess"))
+                .willReturn(new TokenClaims(1L, "user@test.com", "GENERAL", expiresAt, "jti-1"));
+
+        // when
+        authService.logout(1L, "jwtAccess");
+
+        // then
+        verify(jwtRevocationList).revoke("jti-1", expiresAt);
+        verify(refreshTokenRepository).deleteByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("login - 불투명 토큰 모드면 access token 을 세션 테이블에서 발급한다")
+    void login_issuesOpaqueAccessToken_whenEnabled() {
+        // given: 불투명 토큰 모드 활성화, 인증 성공
+        LoginRequestDto request = new LoginRequestDto("user@test.com", "Password123!");
+        User user = User.builder()
+                .userId(1L)
+                .email("user@test.com")
+                .password("encoded")
+                .name("사용자")
+                .role(Role.GENERAL)
+                .build();
+
+        given(userRepository.findByEmail("user@test.com")).willReturn(Optional.of(user));
+        given(refreshTokenRepository.findByUserId(1L)).willReturn(Optional.empty());
+        given(opaqueTokenStore.isEnabled()).willReturn(true);
+        given(opaqueTokenStore.issue(1L, Role.GENERAL)).willReturn("ot_access");
+        given(jwtTokenProvider.createRefreshToken(1L, "user@test.com", "GENERAL")).willReturn("newRefresh");
+        given(passwordEncoder.encode("newRefresh")).willReturn("hashedNewRefresh");
+
+        // when: 로그인 수행
+        TokenResponseDto response = authService.login(request);
+
+        // then: access token 은 불투명 토큰, JWT access token 은 만들지 않는다
+        assertThat(response.accessToken()).isEqualTo("ot_access");
+        verify(jwtTokenProvider, never()).createAccessToken(anyLong(), anyString(), anyString());
     }
 
     @Test
@@ -306,5 +360,8 @@ class AuthServiceImplTest {
                 .hasMessageContaining("이메일은 필수 입력 값입니다.")
                 .satisfies(ex -> assertThat(((ApiException) ex).getCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()));
     }
-}
 
+    private static TokenClaims refreshClaims() {
+        return new TokenClaims(1L, "user@test.com", "GENERAL", Instant.now().plusSeconds(600), null);
+    }
+}
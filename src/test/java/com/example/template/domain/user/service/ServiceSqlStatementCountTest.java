@@ -0,0 +1,137 @@
+package com.example.template.domain.user.service;
+
+import com.example.template.domain.refreshtoken.repository.RefreshTokenRepository;
+import com.example.template.domain.user.dto.LoginRequestDto;
+import com.example.template.domain.user.dto.SignUpRequestDto;
+import com.example.template.domain.user.dto.TokenResponseDto;
+import com.example.template.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.template.support.SqlStatementCount.assertStatements;
+
+/**
+ * AuthServiceImpl / UserServiceImpl 연산별 SQL 문 수 (H2, test 프로필)
+ * 2차 캐시를 비운 cold 상태에서 측정한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceSqlStatementCountTest {
+
+  private static final String EMAIL = "count@test.com";
+  private static final String PASSWORD = "Password123!";
+
+  @Autowired
+  private AuthService authService;
+  @Autowired
+  private UserService userService;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private RefreshTokenRepository refreshTokenRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @AfterEach
+  void tearDown() {
+    refreshTokenRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("signUp - 중복 확인 1 + insert 1 (샤딩을 켜지 않으면 IDENTITY 라 시퀀스 조회 없음)")
+  void signUp_executesTwoStatements() {
+    assertStatements(2, () -> authService.signUp(new SignUpRequestDto(EMAIL, PASSWORD, "홍길동")));
+  }
+
+  @Test
+  @DisplayName("login - 인증 조회 1 (재조회는 영속성 컨텍스트의 natural id) + 리프레시 토큰 조회 1 + insert 1")
+  void login_executesThreeStatements() {
+    // given
+    authService.signUp(new SignUpRequestDto(EMAIL, PASSWORD, "홍길동"));
+    evictSecondLevelCache();
+
+    // when & then
+    assertStatements(3, () -> authService.login(new LoginRequestDto(EMAIL, PASSWORD)));
+  }
+
+  @Test
+  @DisplayName("refreshToken - 리프레시 토큰 조회 1 + update 1")
+  void refreshToken_executesTwoStatements() {
+    // given
+    authService.signUp(new SignUpRequestDto(EMAIL, PASSWORD, "홍길동"));
+    TokenResponseDto tokens = authService.login(new LoginRequestDto(EMAIL, PASSWORD));
+
+    // when & then
+    assertStatements(2, () -> authService.refreshToken(tokens.refreshToken()));
+  }
+
+  @Test
+  @DisplayName("logout - 리프레시 토큰 조회 1 + delete 1")
+  void logout_executesTwoStatements() {
+    // given
+    authService.signUp(new SignUpRequestDto(EMAIL, PASSWORD, "홍길동"));
+    TokenResponseDto tokens = authService.login(new LoginRequestDto(EMAIL, PASSWORD));
+
+    // when & then
+    assertStatements(2, () -> authService.logout(tokens.userId(), tokens.accessToken()));
+  }
+
+  @Test
+  @DisplayName("isEmailAvailable - exists 조회 1")
+  void isEmailAvailable_executesOneStatement() {
+    assertStatements(1, () -> authService.isEmailAvailable(EMAIL));
+  }
+
+  @Test
+  @DisplayName("findMe - PK 조회 1")
+  void findMe_executesOneStatement() {
+    // given
+    authService.signUp(new SignUpRequestDto(EMAIL, PASSWORD, "홍길동"));
+    Long userId = userRepository.findByEmail(EMAIL).orElseThrow().getUserId();
+    evictSecondLevelCache();
+
+    // when & then
+    assertStatements(1, () -> userService.findMe(userId));
+  }
+
+  @Test
+  @DisplayName("findMeETag - 캐시 미스는 modifiedAt 조회 1, 이후 호출은 0")
+  void findMeETag_executesOneStatement_thenServesFromCache() {
+    // given
+    authService.signUp(new SignUpRequestDto(EMAIL, PASSWORD, "홍길동"));
+    Long userId = userRepository.findByEmail(EMAIL).orElseThrow().getUserId();
+
+    // when & then
+    assertStatements(1, () -> userService.findMeETag(userId));
+    assertStatements(0, () -> userService.findMeETag(userId));
+  }
+
+  @Test
+  @DisplayName("findUsers - 캐시 미스 id 를 한 번에 조회 1, 이후 호출은 2차 캐시에서 0")
+  void findUsers_executesOneStatement_thenServesFromCache() {
+    // given
+    List<Long> userIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      authService.signUp(new SignUpRequestDto("batch" + i + "@test.com", PASSWORD, "홍길동"));
+      userIds.add(userRepository.findByEmail("batch" + i + "@test.com").orElseThrow().getUserId());
+    }
+    evictSecondLevelCache();
+
+    // when & then
+    assertStatements(1, () -> userService.findUsers(userIds));
+    assertStatements(0, () -> userService.findUsers(userIds));
+  }
+
+  private void evictSecondLevelCache() {
+    entityManagerFactory.getCache().evictAll();
+  }
+}
@@ -3,22 +3,29 @@ package com.example.template.domain.user.service;
 import com.example.template.domain.user.dto.UserResponseDto;
 import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
+import com.example.template.domain.user.repository.UserVersionCache;
 import com.example.template.domain.user.service.impl.UserServiceImpl;
 import com.example.template.global.common.entity.Role;
 import com.example.template.global.common.exception.ApiException;
 import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.datasource.ShardIds;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +35,7 @@ class UserServiceImplTest {
     private UserServiceImpl userService;
 
     @Mock private UserRepository userRepository;
+    @Mock private UserVersionCache userVersionCache;
 
     @Test
     @DisplayName("findMe - 인증된 유저ID면 DTO로 변환해 반환한다")
@@ -64,5 +72,74 @@ class UserServiceImplTest {
                 .isInstanceOf(ApiException.class)
                 .hasMessageContaining(ErrorMessage.USER_NOT_FOUND);
     }
-}
 
+    @Test
+    @DisplayName("findMeETag - User 를 읽지 않고 버전 캐시의 ETag 를 반환한다")
+    void findMeETag_returnsCachedETag_withoutLoadingUser() {
+        // given
+        given(userVersionCache.eTagOf(1L)).willReturn(Optional.of("\"1-1-abc\""));
+
+        // when
+        String eTag = userService.findMeETag(1L);
+
+        // then
+        assertThat(eTag).isEqualTo("\"1-1-abc\"");
+        verify(userRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findMeETag - 유저가 없으면 ApiException(NOT_FOUND) 발생")
+    void findMeETag_throwsNotFound_whenUserMissing() {
+        // given
+        given(userVersionCache.eTagOf(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userService.findMeETag(99L))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(ErrorMessage.USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("findUsers - 중복 id 는 한 번만 조회하고 없는 id 는 빼고 요청 순서대로 반환한다")
+    void findUsers_preservesOrder_dedupesAndSkipsMissing() {
+        // given: 리포지토리는 요청과 다른 순서로 반환
+        given(userRepository.findAllByUserIdIn(List.of(3L, 1L, 2L)))
+                .willReturn(List.of(user(1L), user(3L)));
+
+        // when
+        List<UserResponseDto> result = userService.findUsers(List.of(3L, 1L, 3L, 2L));
+
+        // then
+        assertThat(result).extracting(UserResponseDto::userId).containsExactly(3L, 1L);
+        verify(userRepository).findAllByUserIdIn(List.of(3L, 1L, 2L));
+    }
+
+    @Test
+    @DisplayName("findUsers - 샤딩을 켜면 id 를 소유 샤드별로 나눠 샤드마다 한 번씩 조회한다")
+    void findUsers_queriesOncePerShard_whenShardingEnabled() {
+        // given: 0번 샤드 id 2개, 1번 샤드 id 1개
+        ReflectionTestUtils.setField(userService, "shardingEnabled", true);
+        long shard0a = ShardIds.compose(1, 0);
+        long shard1 = ShardIds.compose(1, 1);
+        long shard0b = ShardIds.compose(2, 0);
+        given(userRepository.findAllByUserIdIn(List.of(shard0a, shard0b))).willReturn(List.of(user(shard0a), user(shard0b)));
+        given(userRepository.findAllByUserIdIn(List.of(shard1))).willReturn(List.of(user(shard1)));
+
+        // when
+        List<UserResponseDto> result = userService.findUsers(List.of(shard0a, shard1, shard0b));
+
+        // then
+        assertThat(result).extracting(UserResponseDto::userId).containsExactly(shard0a, shard1, shard0b);
+        verify(userRepository, times(2)).findAllByUserIdIn(anyList());
+    }
+
+    private static User user(Long userId) {
+        return User.builder()
+                .userId(userId)
+                .email("user" + userId + "@test.com")
+                .password("encoded")
+                .name("사용자")
+                .role(Role.GENERAL)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.template.global.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiExceptionTest {
+
+  @Test
+  @DisplayName("of - 예상 가능한 실패는 스택 트레이스를 수집하지 않는다")
+  void of_createsStacklessException() {
+    // when
+    ApiException exception = ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.USER_NOT_FOUND);
+
+    // then
+    assertThat(exception.isExpected()).isTrue();
+    assertThat(exception.getStackTrace()).isEmpty();
+    assertThat(exception.getCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+  }
+
+  @Test
+  @DisplayName("unexpected - 예상하지 못한 오류는 스택 트레이스를 수집한다")
+  void unexpected_capturesStackTrace() {
+    // when
+    ApiException exception = ApiException.unexpected(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+
+    // then
+    assertThat(exception.isExpected()).isFalse();
+    assertThat(exception.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("공유 인스턴스는 suppressed 예외가 누적되지 않는다")
+  void sharedInstance_ignoresSuppressedExceptions() {
+    // when
+    ApiExceptions.USER_NOT_FOUND.addSuppressed(new IllegalStateException("other"));
+
+    // then
+    assertThat(ApiExceptions.USER_NOT_FOUND.getSuppressed()).isEmpty();
+  }
+}
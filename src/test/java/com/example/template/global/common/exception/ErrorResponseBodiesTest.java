@@ -0,0 +1,52 @@
+package com.example.template.global.common.exception;
+
+import com.example.template.global.common.util.ApiResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseBodiesTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies(objectMapper);
+
+  @Test
+  @DisplayName("find - ErrorMessage 상수는 ObjectMapper 직렬화 결과와 동일한 바이트를 반환한다")
+  void find_returnsSameBytesAsObjectMapper_forErrorMessageConstants() throws Exception {
+    // given
+    byte[] expected = objectMapper.writeValueAsBytes(ApiResult.fail(404, ErrorMessage.USER_NOT_FOUND));
+
+    // when
+    byte[] body = errorResponseBodies.find(404, ErrorMessage.USER_NOT_FOUND);
+
+    // then
+    assertThat(body).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("find - 상수가 아닌 메시지나 지원하지 않는 상태코드는 null 을 반환한다")
+  void find_returnsNull_whenNotPreEncoded() {
+    assertThat(errorResponseBodies.find(400, "동적으로 만든 메시지")).isNull();
+    assertThat(errorResponseBodies.find(418, ErrorMessage.BAD_REQUEST)).isNull();
+    assertThat(errorResponseBodies.find(200, ErrorMessage.BAD_REQUEST)).isNull();
+  }
+
+  @Test
+  @DisplayName("write - 상태코드와 JSON 바디를 응답 스트림에 기록한다")
+  void write_writesStatusAndBody() throws Exception {
+    // given
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    errorResponseBodies.write(response, 401, ErrorMessage.MISSING_TOKEN);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(response.getContentType()).startsWith("application/json");
+    assertThat(response.getContentAsByteArray())
+        .isEqualTo(objectMapper.writeValueAsBytes(ApiResult.fail(401, ErrorMessage.MISSING_TOKEN)));
+  }
+}
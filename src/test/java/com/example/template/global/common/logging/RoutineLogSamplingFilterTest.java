@@ -0,0 +1,67 @@
+package com.example.template.global.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutineLogSamplingFilterTest {
+
+  private final LoggerContext context = new LoggerContext();
+  private RoutineLogSamplingFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+    filter = new RoutineLogSamplingFilter();
+    filter.setContext(context);
+    filter.setRates("com.example.auth=3, com.example.auth.detail=1");
+  }
+
+  @Test
+  @DisplayName("ROUTINE 로그는 가장 길게 일치하는 카테고리 비율로 샘플링한다")
+  void decide_samplesRoutineLogsByLongestCategory() {
+    // given
+    Logger auth = context.getLogger("com.example.auth.AuthService");
+    Logger detail = context.getLogger("com.example.auth.detail.DetailService");
+
+    // when
+    List<FilterReply> authReplies = decideTimes(auth, 6);
+    List<FilterReply> detailReplies = decideTimes(detail, 3);
+
+    // then: 3건 중 1건만 통과, 비율 1 카테고리는 모두 통과
+    assertThat(authReplies).containsExactly(
+        FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY,
+        FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY);
+    assertThat(detailReplies).containsOnly(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  @DisplayName("ROUTINE 마커가 없는 로그와 비활성 레벨 로그는 샘플링하지 않는다")
+  void decide_ignoresUnmarkedOrDisabledLogs() {
+    // given
+    Logger auth = context.getLogger("com.example.auth.AuthService");
+
+    // when & then
+    assertThat(filter.decide(null, auth, Level.WARN, "실패", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.decide(LogMarkers.ROUTINE, auth, Level.DEBUG, "디버그", null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decideTimes(auth, 1)).containsExactly(FilterReply.NEUTRAL);
+  }
+
+  private List<FilterReply> decideTimes(Logger logger, int times) {
+    List<FilterReply> replies = new ArrayList<>();
+    for (int i = 0; i < times; i++) {
+      replies.add(filter.decide(LogMarkers.ROUTINE, logger, Level.INFO, "성공", null, null));
+    }
+    return replies;
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.template.global.common.util;
+
+import com.example.template.domain.user.dto.TokenResponseDto;
+import com.example.template.domain.user.dto.UserResponseDto;
+import com.example.template.global.common.entity.Role;
+import com.example.template.global.common.exception.ErrorMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiResultJsonModuleTest {
+
+  private final ObjectMapper reflective = new ObjectMapper();
+  private final ObjectMapper handWritten = new ObjectMapper().registerModule(new ApiResultJsonModule());
+
+  @Test
+  @DisplayName("TokenResponseDto 응답은 리플렉션 직렬화와 같은 바이트를 만든다")
+  void tokenResponse_matchesReflectiveSerialization() throws Exception {
+    // given
+    ApiResult<TokenResponseDto> result = ApiResult.success(new TokenResponseDto(
+        1L, "user@test.com", null, "GENERAL", "access.token.value", "refresh.token.value"));
+
+    // when & then
+    assertThat(handWritten.writeValueAsString(result)).isEqualTo(reflective.writeValueAsString(result));
+  }
+
+  @Test
+  @DisplayName("UserResponseDto 응답은 리플렉션 직렬화와 같은 바이트를 만든다")
+  void userResponse_matchesReflectiveSerialization() throws Exception {
+    // given
+    ApiResult<UserResponseDto> result = ApiResult.success(
+        new UserResponseDto(1L, "user@test.com", "홍길동", Role.GENERAL));
+
+    // when & then
+    assertThat(handWritten.writeValueAsString(result)).isEqualTo(reflective.writeValueAsString(result));
+  }
+
+  @Test
+  @DisplayName("data 가 null 이면 data 필드를 생략한다")
+  void nullData_isOmitted() throws Exception {
+    // given
+    ApiResult<Object> result = ApiResult.fail(404, ErrorMessage.USER_NOT_FOUND);
+
+    // when
+    JsonNode json = reflective.readTree(handWritten.writeValueAsBytes(result));
+
+    // then
+    ObjectNode expected = (ObjectNode) reflective.valueToTree(result);
+    expected.remove("data");
+    assertThat(json).isEqualTo(expected);
+    assertThat(json.has("data")).isFalse();
+  }
+
+  @Test
+  @DisplayName("상수가 아닌 메시지와 그 밖의 data 타입은 일반 직렬화로 기록한다")
+  void dynamicMessageAndOtherData_areSerializedNormally() throws Exception {
+    // given
+    ApiResult<Boolean> result = ApiResult.success(201, "따옴표 \"포함\" 메시지", true);
+
+    // when
+    JsonNode json = reflective.readTree(handWritten.writeValueAsBytes(result));
+
+    // then
+    assertThat(json.get("message").asText()).isEqualTo("따옴표 \"포함\" 메시지");
+    assertThat(json.get("code").asInt()).isEqualTo(201);
+    assertThat(json.get("data").asBoolean()).isTrue();
+  }
+}
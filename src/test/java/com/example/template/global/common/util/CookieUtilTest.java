@@ -0,0 +1,78 @@
+package com.example.template.global.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CookieUtilTest {
+
+  private final CookieUtil cookieUtil = new CookieUtil(true, "Lax", "example.com", 1800, 604800);
+
+  @Test
+  @DisplayName("getCookieValue - Cookie 헤더에서 요청한 이름의 값만 찾는다")
+  void getCookieValue_findsNamedCookie() {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.COOKIE, "theme=dark; refreshToken=r.t.k;accessToken=a.t.k ");
+
+    // when & then
+    assertThat(cookieUtil.getCookieValue(request, CookieUtil.ACCESS_TOKEN)).isEqualTo("a.t.k");
+    assertThat(cookieUtil.getCookieValue(request, CookieUtil.REFRESH_TOKEN)).isEqualTo("r.t.k");
+  }
+
+  @Test
+  @DisplayName("getCookieValue - 이름이 접두사로만 일치하거나 헤더가 없으면 null 을 반환한다")
+  void getCookieValue_returnsNull_whenCookieMissing() {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.COOKIE, "accessTokenOld=stale; xaccessToken=other");
+
+    // when & then
+    assertThat(cookieUtil.getCookieValue(request, CookieUtil.ACCESS_TOKEN)).isNull();
+    assertThat(cookieUtil.getCookieValue(new MockHttpServletRequest(), CookieUtil.ACCESS_TOKEN)).isNull();
+  }
+
+  @Test
+  @DisplayName("getCookieValue - 따옴표로 감싼 값은 따옴표를 제거한다")
+  void getCookieValue_stripsQuotes() {
+    assertThat(CookieUtil.findCookieValue("accessToken=\"quoted\"", CookieUtil.ACCESS_TOKEN))
+        .isEqualTo("quoted");
+  }
+
+  @Test
+  @DisplayName("createCookie - 미리 렌더링한 속성으로 Set-Cookie 헤더를 만든다")
+  void createCookie_appendsPreRenderedAttributes() {
+    // when
+    HttpHeaders headers = cookieUtil.createCookie("access", "refresh");
+
+    // then
+    assertThat(headers.get(HttpHeaders.SET_COOKIE)).containsExactly(
+        "refreshToken=refresh; Path=/; Domain=example.com; Max-Age=604800; Secure; HttpOnly; SameSite=Lax",
+        "accessToken=access; Path=/; Domain=example.com; Max-Age=1800; Secure; HttpOnly; SameSite=Lax"
+    );
+  }
+
+  @Test
+  @DisplayName("cleanCookies - ResponseCookie 로 만든 만료 쿠키와 동일한 헤더를 반환한다")
+  void cleanCookies_matchesResponseCookieFormat() {
+    // given
+    ResponseCookie expected = ResponseCookie.from(CookieUtil.ACCESS_TOKEN, null)
+        .httpOnly(true)
+        .secure(true)
+        .path("/")
+        .domain("example.com")
+        .maxAge(0)
+        .sameSite("Lax")
+        .build();
+
+    // when
+    HttpHeaders headers = cookieUtil.cleanCookies();
+
+    // then
+    assertThat(headers.get(HttpHeaders.SET_COOKIE)).contains(expected.toString());
+  }
+}
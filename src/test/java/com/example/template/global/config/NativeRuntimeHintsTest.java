@@ -0,0 +1,48 @@
+package com.example.template.global.config;
+
+import com.example.template.domain.user.entity.User;
+import com.example.template.global.common.exception.ErrorMessage;
+import com.example.template.global.datasource.ShardedIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTest {
+
+  private final RuntimeHints hints = new RuntimeHints();
+
+  @BeforeEach
+  void setUp() {
+    new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("jjwt 구현체 생성자와 ServiceLoader 설정을 등록한다")
+  void registersJjwtImplementations() {
+    for (String type : NativeRuntimeHints.JJWT_IMPL_TYPES) {
+      assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+          .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+    assertThat(RuntimeHintsPredicates.resource()
+        .forResource("META-INF/services/io.jsonwebtoken.io.Serializer")).accepts(hints);
+  }
+
+  @Test
+  @DisplayName("엔티티 필드, id 생성기, ErrorMessage 상수, 설정 리소스를 등록한다")
+  void registersEntitiesAndResources() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(User.class)
+        .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(ShardedIdGenerator.class)
+        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(ErrorMessage.class)
+        .withMemberCategory(MemberCategory.PUBLIC_FIELDS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource().forResource("application.conf")).accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource().forResource("jfr/template.jfc")).accepts(hints);
+  }
+}
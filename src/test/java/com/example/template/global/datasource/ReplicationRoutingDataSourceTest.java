@@ -0,0 +1,65 @@
+package com.example.template.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary/replica 를 서로 다른 H2 메모리 DB 로 띄우고 트랜잭션별로 어느 DB 에 붙는지 확인
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:primarydb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "datasource.replica.driver-class-name=org.h2.Driver",
+    "datasource.replica.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "datasource.replica.username=sa"
+})
+@ActiveProfiles("test")
+class ReplicationRoutingDataSourceTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    ReplicaRouting.clear();
+  }
+
+  @Test
+  @DisplayName("readOnly 트랜잭션은 replica 로 라우팅된다")
+  void readOnlyTransaction_routesToReplica() {
+    assertThat(databaseIn(true)).isEqualToIgnoringCase("replicadb");
+  }
+
+  @Test
+  @DisplayName("쓰기 트랜잭션은 primary 로 라우팅된다")
+  void readWriteTransaction_routesToPrimary() {
+    assertThat(databaseIn(false)).isEqualToIgnoringCase("primarydb");
+  }
+
+  @Test
+  @DisplayName("read-your-writes 로 primary 가 강제되면 readOnly 트랜잭션도 primary 로 라우팅된다")
+  void readOnlyTransaction_routesToPrimary_whenPrimaryForced() {
+    // given
+    ReplicaRouting.forcePrimary();
+
+    // when & then
+    assertThat(databaseIn(true)).isEqualToIgnoringCase("primarydb");
+  }
+
+  private String databaseIn(boolean readOnly) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(readOnly);
+    return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+  }
+}
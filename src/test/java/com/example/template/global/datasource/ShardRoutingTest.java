@@ -0,0 +1,178 @@
+package com.example.template.global.datasource;
+
+import com.example.template.domain.refreshtoken.repository.RefreshTokenRepository;
+import com.example.template.domain.user.dto.LoginRequestDto;
+import com.example.template.domain.user.dto.SignUpRequestDto;
+import com.example.template.domain.user.dto.TokenResponseDto;
+import com.example.template.domain.user.entity.User;
+import com.example.template.domain.user.repository.UserRepository;
+import com.example.template.domain.user.service.AuthService;
+import com.example.template.global.common.exception.ApiException;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 3개의 H2 메모리 DB 를 샤드로 띄우고 가입/조회/로그인/재발급이 소유 샤드에서만 실행되는지 확인
+ */
+@SpringBootTest(properties = {
+    "datasource.shards.enabled=true",
+    "datasource.shards.nodes[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "datasource.shards.nodes[0].username=sa",
+    "datasource.shards.nodes[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "datasource.shards.nodes[1].username=sa",
+    "datasource.shards.nodes[2].url=jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "datasource.shards.nodes[2].username=sa"
+})
+@ActiveProfiles("test")
+class ShardRoutingTest {
+
+  private static final String PASSWORD = "Password123!";
+  private static final int USERS = 12;
+
+  @Autowired
+  private AuthService authService;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private RefreshTokenRepository refreshTokenRepository;
+  @Autowired
+  private ShardRouter shardRouter;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @AfterEach
+  void tearDown() {
+    for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+      ShardContext.bind(shard);
+      try {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        jdbcTemplate.update("DELETE FROM users");
+      } finally {
+        ShardContext.clear();
+      }
+    }
+    entityManagerFactory.getCache().evictAll();
+  }
+
+  @Test
+  @DisplayName("signUp - 이메일 해시로 정한 샤드에만 저장되고 id 에 샤드 번호가 담긴다")
+  void signUp_storesUserOnlyInOwningShard() {
+    Set<Integer> usedShards = new HashSet<>();
+    for (int i = 0; i < USERS; i++) {
+      // given
+      String email = "user" + i + "@shard.test";
+      int expectedShard = shardRouter.shardOfEmail(email);
+
+      // when
+      authService.signUp(new SignUpRequestDto(email, PASSWORD, "홍길동"));
+
+      // then
+      User user = userRepository.findByEmail(email).orElseThrow();
+      assertThat(ShardIds.shardOf(user.getUserId())).isEqualTo(expectedShard);
+      for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+        assertThat(countUsers(shard, email)).isEqualTo(shard == expectedShard ? 1 : 0);
+      }
+      usedShards.add(expectedShard);
+    }
+    assertThat(usedShards).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  @DisplayName("findById - 캐시를 비워도 id 의 샤드 비트로 소유 샤드에서 조회한다")
+  void findById_routesByShardBits() {
+    // given
+    for (int i = 0; i < USERS; i++) {
+      authService.signUp(new SignUpRequestDto("find" + i + "@shard.test", PASSWORD, "홍길동"));
+    }
+    Set<Long> userIds = new HashSet<>();
+    for (int i = 0; i < USERS; i++) {
+      userIds.add(userRepository.findByEmail("find" + i + "@shard.test").orElseThrow().getUserId());
+    }
+    entityManagerFactory.getCache().evictAll();
+
+    // when & then
+    for (Long userId : userIds) {
+      assertThat(userRepository.findById(userId)).isPresent();
+    }
+  }
+
+  @Test
+  @DisplayName("signUp - 같은 이메일은 항상 같은 샤드로 가므로 중복 가입을 막는다")
+  void signUp_rejectsDuplicateEmail_withinOwningShard() {
+    // given
+    authService.signUp(new SignUpRequestDto("dup@shard.test", PASSWORD, "홍길동"));
+
+    // when & then
+    assertThatThrownBy(() -> authService.signUp(new SignUpRequestDto("dup@shard.test", PASSWORD, "김철수")))
+        .isInstanceOf(ApiException.class);
+  }
+
+  @Test
+  @DisplayName("login/refreshToken - 리프레시 토큰이 사용자와 같은 샤드에 저장되고 회전된다")
+  void loginAndRefresh_keepRefreshTokenInUserShard() {
+    // given
+    String email = "token@shard.test";
+    authService.signUp(new SignUpRequestDto(email, PASSWORD, "홍길동"));
+    int shard = shardRouter.shardOfEmail(email);
+
+    // when
+    TokenResponseDto tokens = authService.login(new LoginRequestDto(email, PASSWORD));
+    authService.refreshToken(tokens.refreshToken());
+
+    // then
+    Long userId = userRepository.findByEmail(email).orElseThrow().getUserId();
+    assertThat(refreshTokenRepository.findByUserId(userId)).isPresent();
+    assertThat(countRefreshTokens(shard)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("changeEmail - 샤드 키인 이메일 변경은 거부되고 행은 원래 이메일로 남는다")
+  void changeEmail_isRejected_whenSharded() {
+    // given
+    String email = "move@shard.test";
+    authService.signUp(new SignUpRequestDto(email, PASSWORD, "홍길동"));
+    Long userId = userRepository.findByEmail(email).orElseThrow().getUserId();
+
+    // when & then
+    assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+        userRepository.findById(userId).orElseThrow().changeEmail("moved@shard.test")))
+        .hasStackTraceContaining("샤드 키");
+    entityManagerFactory.getCache().evictAll();
+    assertThat(userRepository.findByEmail(email)).isPresent();
+  }
+
+  private int countUsers(int shard, String email) {
+    ShardContext.bind(shard);
+    try {
+      return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email);
+    } finally {
+      ShardContext.clear();
+    }
+  }
+
+  private int countRefreshTokens(int shard) {
+    ShardContext.bind(shard);
+    try {
+      return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class);
+    } finally {
+      ShardContext.clear();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.template.global.monitoring;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolAdvisorTest {
+
+  private final MockClock clock = new MockClock();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+  private ConnectionPoolAdvisor advisor;
+  private Timer acquire;
+  private Timer usage;
+  private final AtomicInteger maxConnections = new AtomicInteger(10);
+
+  @BeforeEach
+  void setUp() {
+    advisor = new ConnectionPoolAdvisor(meterRegistry, 0.7, 0.2, 50);
+    acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(meterRegistry);
+    usage = Timer.builder("hikaricp.connections.usage").tag("pool", "primary").register(meterRegistry);
+    meterRegistry.gauge("hikaricp.connections.max", Tags.of("pool", "primary"), maxConnections);
+  }
+
+  @Test
+  @DisplayName("첫 호출은 기준점만 기록하고 권장값을 내지 않는다")
+  void advise_returnsNothing_onFirstSample() {
+    usage.record(Duration.ofMillis(10));
+
+    assertThat(advisor.advise()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("대기 시간이 사용 시간보다 길면 starving 으로 보고 대기 수요만큼 큰 풀을 권장한다")
+  void advise_recommendsLargerPool_whenAcquireWaitDominates() {
+    // given: 10초 동안 커넥션 10개를 계속 사용하고, 평균 10개 스레드가 대기
+    advisor.advise();
+    for (int i = 0; i < 1000; i++) {
+      usage.record(Duration.ofMillis(100));
+      acquire.record(Duration.ofMillis(100));
+    }
+    clock.add(Duration.ofSeconds(10));
+
+    // when
+    ConnectionPoolAdvisor.Advice advice = advisor.advise().get(0);
+
+    // then: (10 + 10) / 0.7 = 28.6 -> 29
+    assertThat(advice.starving()).isTrue();
+    assertThat(advice.currentMax()).isEqualTo(10);
+    assertThat(advice.recommendedSize()).isEqualTo(29);
+    assertThat(meterRegistry.get(ConnectionPoolAdvisor.RECOMMENDED_METRIC).tag("pool", "primary").gauge().value())
+        .isEqualTo(29);
+  }
+
+  @Test
+  @DisplayName("대기가 거의 없고 사용량이 적으면 작은 풀을 권장한다")
+  void advise_recommendsSmallerPool_whenPoolIsIdle() {
+    // given: 10초 동안 평균 1개 커넥션 사용, 대기 없음
+    advisor.advise();
+    for (int i = 0; i < 100; i++) {
+      usage.record(Duration.ofMillis(100));
+      acquire.record(Duration.ofNanos(20_000));
+    }
+    clock.add(Duration.ofSeconds(10));
+
+    // when
+    ConnectionPoolAdvisor.Advice advice = advisor.advise().get(0);
+
+    // then: 1 / 0.7 = 1.4 -> 최소 2
+    assertThat(advice.starving()).isFalse();
+    assertThat(advice.recommendedSize()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.template.global.monitoring.jfr;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrRecordingServiceTest {
+
+  @Test
+  @DisplayName("settings - JDK default 설정 위에 커스텀 이벤트 설정을 덮어쓴다")
+  void settings_mergesCustomEventsOverDefault() throws Exception {
+    // when
+    Map<String, String> settings = JfrRecordingService.settings();
+
+    // then
+    assertThat(settings)
+        .containsEntry("com.example.template.RepositoryCall#threshold", "5 ms")
+        .containsEntry("com.example.template.PasswordHash#enabled", "true")
+        .containsKey("jdk.GarbageCollection#enabled");
+  }
+}
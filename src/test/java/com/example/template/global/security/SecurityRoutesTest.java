@@ -0,0 +1,84 @@
+package com.example.template.global.security;
+
+import com.example.template.global.security.SecurityRoutes.RouteType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityRoutesTest {
+
+  @Test
+  @DisplayName("permitAll 경로는 PUBLIC 으로 분류한다")
+  void classify_returnsPublic_forPermitAllPaths() {
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("POST", "/api/auth/login")))
+        .isEqualTo(RouteType.PUBLIC);
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/swagger-ui/index.html")))
+        .isEqualTo(RouteType.PUBLIC);
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/swagger-ui.html")))
+        .isEqualTo(RouteType.PUBLIC);
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/v3/api-docs")))
+        .isEqualTo(RouteType.PUBLIC);
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/openapi/openapi.json")))
+        .isEqualTo(RouteType.PUBLIC);
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/.well-known/jwks.json")))
+        .isEqualTo(RouteType.PUBLIC);
+  }
+
+  @Test
+  @DisplayName("로그아웃은 permitAll 이지만 principal 이 필요하므로 PROTECTED 로 분류한다")
+  void classify_returnsProtected_forTokenAwarePaths() {
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("POST", "/api/auth/logout")))
+        .isEqualTo(RouteType.PROTECTED);
+  }
+
+  @Test
+  @DisplayName("prefix 가 경로 구분자 단위로만 일치해야 PUBLIC 으로 분류한다")
+  void classify_returnsProtected_whenPrefixMatchesOnlyPartially() {
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/api/authority")))
+        .isEqualTo(RouteType.PROTECTED);
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/api/user/me")))
+        .isEqualTo(RouteType.PROTECTED);
+  }
+
+  @Test
+  @DisplayName("내부 서비스 경로는 INTERNAL 로 분류하고 사용자 토큰 검증을 생략한다")
+  void classify_returnsInternal_forServicePaths() {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/users/batch");
+
+    // when & then
+    assertThat(SecurityRoutes.classify(request)).isEqualTo(RouteType.INTERNAL);
+    assertThat(SecurityRoutes.skipsAuthentication(request)).isTrue();
+    assertThat(SecurityRoutes.classify(new MockHttpServletRequest("GET", "/internalx")))
+        .isEqualTo(RouteType.PROTECTED);
+  }
+
+  @Test
+  @DisplayName("CORS preflight 요청은 경로와 무관하게 PREFLIGHT 로 분류한다")
+  void classify_returnsPreflight_forCorsPreflight() {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/user/me");
+    request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+    request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+
+    // when & then
+    assertThat(SecurityRoutes.classify(request)).isEqualTo(RouteType.PREFLIGHT);
+    assertThat(SecurityRoutes.skipsAuthentication(request)).isTrue();
+  }
+
+  @Test
+  @DisplayName("servletPath/pathInfo 가 있으면 컨텍스트 경로를 제외한 경로로 판별한다")
+  void classify_usesServletPathAndPathInfo() {
+    // given: /h2-console/* 로 매핑된 서블릿
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/h2-console/login.jsp");
+    request.setContextPath("/app");
+    request.setServletPath("/h2-console");
+    request.setPathInfo("/login.jsp");
+
+    // when & then
+    assertThat(SecurityRoutes.classify(request)).isEqualTo(RouteType.PUBLIC);
+  }
+}
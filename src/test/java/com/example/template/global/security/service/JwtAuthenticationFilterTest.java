@@ -3,14 +3,23 @@ package com.example.template.global.security.service;
 import com.example.template.domain.user.entity.User;
 import com.example.template.domain.user.repository.UserRepository;
 import com.example.template.global.common.entity.Role;
+import com.example.template.global.common.util.CookieUtil;
+import com.example.template.global.datasource.ReadYourWritesTracker;
+import com.example.template.global.monitoring.AuthMetrics;
 import com.example.template.global.security.UserPrincipal;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -18,10 +27,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
@@ -31,11 +46,14 @@ class JwtAuthenticationFilterTest {
   @Mock
   private UserRepository userRepository;
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private JwtAuthenticationFilter filter;
 
   @BeforeEach
   void setUp() {
-    filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository);
+    filter = new JwtAuthenticationFilter(jwtTokenProvider, OpaqueTokenStore.disabled(), JwtRevocationList.disabled(),
+        userRepository, new CookieUtil(false, "Lax", "", 1800, 604800), new AuthMetrics(meterRegistry),
+        new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
     ReflectionTestUtils.setField(filter, "checkUserStateWithDb", true);
     SecurityContextHolder.clearContext();
   }
@@ -53,10 +71,7 @@ class JwtAuthenticationFilterTest {
     MockHttpServletResponse response = new MockHttpServletResponse();
     MockFilterChain chain = new MockFilterChain();
 
-    given(jwtTokenProvider.validateToken("token")).willReturn(true);
-    given(jwtTokenProvider.getUserIdFromToken("token")).willReturn(99L);
-    given(jwtTokenProvider.getEmailFromToken("token")).willReturn("missing@test.com");
-    given(jwtTokenProvider.getRoleFromToken("token")).willReturn("GENERAL");
+    given(jwtTokenProvider.parseAccessToken("token")).willReturn(new TokenClaims(99L, "missing@test.com", "GENERAL", Instant.now().plusSeconds(60), "jti"));
     given(userRepository.findById(99L)).willReturn(Optional.empty());
 
     filter.doFilterInternal(request, response, chain);
@@ -80,10 +95,7 @@ class JwtAuthenticationFilterTest {
         .role(Role.ADMIN)
         .build();
 
-    given(jwtTokenProvider.validateToken("token")).willReturn(true);
-    given(jwtTokenProvider.getUserIdFromToken("token")).willReturn(1L);
-    given(jwtTokenProvider.getEmailFromToken("token")).willReturn("user@test.com");
-    given(jwtTokenProvider.getRoleFromToken("token")).willReturn("GENERAL");
+    given(jwtTokenProvider.parseAccessToken("token")).willReturn(new TokenClaims(1L, "user@test.com", "GENERAL", Instant.now().plusSeconds(60), "jti"));
     given(userRepository.findById(1L)).willReturn(Optional.of(user));
 
     filter.doFilterInternal(request, response, chain);
@@ -95,5 +107,138 @@ class JwtAuthenticationFilterTest {
         .extracting(auth -> auth.getAuthority())
         .containsExactly("ROLE_ADMIN");
   }
-}
 
+  @Test
+  @DisplayName("permitAll 경로는 만료된 쿠키가 있어도 토큰 검증을 수행하지 않는다")
+  void doFilter_skipsTokenVerification_onPublicPath() throws Exception {
+    // given: 로그인 요청에 만료된 accessToken 쿠키가 붙어 있음
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+    request.setCookies(new Cookie("accessToken", "expired"));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(request, response, chain);
+
+    // then: 체인은 계속 진행되고 검증은 호출되지 않음
+    assertThat(chain.getRequest()).isSameAs(request);
+    verify(jwtTokenProvider, never()).parseAccessToken(any());
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 인증하지 않고 필터 결과를 expired_token 으로 기록한다")
+  void doFilter_recordsExpiredOutcome_whenTokenExpired() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader("Authorization", "Bearer expired");
+    MockFilterChain chain = new MockFilterChain();
+    given(jwtTokenProvider.parseAccessToken("expired"))
+        .willThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // then: 체인은 계속 진행되고(401 은 EntryPoint 가 처리) 결과 카운터만 증가
+    assertThat(chain.getRequest()).isSameAs(request);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(meterRegistry.get(AuthMetrics.FILTER).tag("outcome", "expired_token").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("불투명 토큰은 JWT 파싱 없이 세션 테이블로 인증하고, 폐기 후에는 거부한다")
+  void doFilter_authenticatesOpaqueToken_untilRevoked() throws Exception {
+    // given
+    OpaqueTokenStore opaqueTokenStore = new OpaqueTokenStore(true, 16, 1800, meterRegistry);
+    JwtAuthenticationFilter opaqueFilter = new JwtAuthenticationFilter(jwtTokenProvider, opaqueTokenStore,
+        JwtRevocationList.disabled(), userRepository, new CookieUtil(false, "Lax", "", 1800, 604800), new AuthMetrics(meterRegistry),
+        new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
+    String token = opaqueTokenStore.issue(1L, Role.ADMIN);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader("Authorization", "Bearer " + token);
+
+    // when
+    opaqueFilter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+    Authentication authenticated = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    opaqueTokenStore.revoke(token);
+    opaqueFilter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(authenticated).isNotNull();
+    assertThat(((UserPrincipal) authenticated.getPrincipal()).getUserId()).isEqualTo(1L);
+    assertThat(authenticated.getAuthorities())
+        .extracting(auth -> auth.getAuthority())
+        .containsExactly("ROLE_ADMIN");
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    verify(jwtTokenProvider, never()).parseAccessToken(any());
+  }
+
+  @Test
+  @DisplayName("불투명 토큰 모드에서는 JWT 를 파싱하지 않고 거부한다 (refresh token 으로 세션 테이블 우회 방지)")
+  void doFilter_rejectsJwt_whenOpaqueTokensEnabled() throws Exception {
+    // given
+    OpaqueTokenStore opaqueTokenStore = new OpaqueTokenStore(true, 16, 1800, meterRegistry);
+    JwtAuthenticationFilter opaqueFilter = new JwtAuthenticationFilter(jwtTokenProvider, opaqueTokenStore,
+        JwtRevocationList.disabled(), userRepository, new CookieUtil(false, "Lax", "", 1800, 604800),
+        new AuthMetrics(meterRegistry), new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader("Authorization", "Bearer refresh.jwt.token");
+
+    // when
+    opaqueFilter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(meterRegistry.get(AuthMetrics.FILTER).tag("outcome", "invalid_token").counter().count())
+        .isEqualTo(1.0);
+    verify(jwtTokenProvider, never()).parseAccessToken(any());
+  }
+
+  @Test
+  @DisplayName("로그아웃으로 jti 가 폐기된 JWT 는 exp 전이라도 인증하지 않는다")
+  void doFilter_rejectsRevokedJwt(@TempDir Path dir) throws Exception {
+    // given
+    JwtRevocationList revocationList = new JwtRevocationList(true, dir.resolve("revocations.dat").toString(), 100,
+        meterRegistry);
+    JwtAuthenticationFilter revocationFilter = new JwtAuthenticationFilter(jwtTokenProvider,
+        OpaqueTokenStore.disabled(), revocationList, userRepository, new CookieUtil(false, "Lax", "", 1800, 604800),
+        new AuthMetrics(meterRegistry), new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    given(jwtTokenProvider.parseAccessToken("token")).willReturn(new TokenClaims(1L, "user@test.com", "GENERAL", expiresAt, "jti"));
+    revocationList.revoke("jti", expiresAt);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader("Authorization", "Bearer token");
+
+    // when
+    revocationFilter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(meterRegistry.get(AuthMetrics.FILTER).tag("outcome", "revoked_token").counter().count())
+        .isEqualTo(1.0);
+    revocationList.close();
+  }
+
+  @Test
+  @DisplayName("refresh token 을 Bearer 로 보내면 서명이 유효해도 인증하지 않는다")
+  void doFilter_rejectsRefreshTokenAsAccessToken() throws Exception {
+    // given: 실제 서명한 refresh token (jti 가 없어 폐기 목록으로는 막을 수 없다)
+    JwtTokenProvider tokenProvider = new JwtTokenProvider("test-secret-should-be-at-least-32-characters!", 1800, 604800);
+    JwtAuthenticationFilter realFilter = new JwtAuthenticationFilter(tokenProvider, OpaqueTokenStore.disabled(),
+        JwtRevocationList.disabled(), userRepository, new CookieUtil(false, "Lax", "", 1800, 604800),
+        new AuthMetrics(meterRegistry), new ReadYourWritesTracker(false, Duration.ofSeconds(5)));
+    String refreshToken = tokenProvider.createRefreshToken(1L, "user@test.com", "GENERAL");
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader("Authorization", "Bearer " + refreshToken);
+
+    // when
+    realFilter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(meterRegistry.get(AuthMetrics.FILTER).tag("outcome", "invalid_token").counter().count())
+        .isEqualTo(1.0);
+    verify(userRepository, never()).findById(any());
+  }
+}
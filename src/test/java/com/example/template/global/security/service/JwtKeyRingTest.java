@@ -0,0 +1,127 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.monitoring.AuthMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.PublicJwk;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+  private static final String SECRET = "test-secret-should-be-at-least-32-characters!";
+
+  @Test
+  @DisplayName("EdDSA 키로 서명하면 헤더에 kid 가 들어가고 JWKS 에 같은 kid 의 공개 키가 노출된다")
+  void eddsa_signsWithKid_andPublishesJwk() throws Exception {
+    // given
+    KeyPair key = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    JwtKeyRing keyRing = JwtKeyRing.from(properties("EdDSA", null, entry("k1", key, true)));
+    JwtTokenProvider provider = new JwtTokenProvider(keyRing, 1800, 604800, AuthMetrics.noop());
+
+    // when
+    String token = provider.createAccessToken(1L, "user@test.com", "GENERAL");
+
+    // then
+    assertThat(kidOf(token)).isEqualTo("k1");
+    assertThat(provider.parseToken(token).userId()).isEqualTo(1L);
+    PublicJwk<?> jwk = keyRing.publicJwks().get(0);
+    assertThat(jwk.getId()).isEqualTo("k1");
+    assertThat(jwk.getAlgorithm()).isEqualTo("EdDSA");
+    assertThat(jwk).doesNotContainKey("d");
+  }
+
+  @Test
+  @DisplayName("키 교체 후에도 이전 키로 서명한 토큰은 kid 로 찾아 검증하고, 목록에서 뺀 키의 토큰은 거부한다")
+  void es256_verifiesPreviousKeys_untilRemoved() throws Exception {
+    // given
+    KeyPair oldKey = ecKeyPair();
+    KeyPair newKey = ecKeyPair();
+    String oldToken = new JwtTokenProvider(JwtKeyRing.from(properties("ES256", null, entry("old", oldKey, true))),
+        1800, 604800, AuthMetrics.noop()).createAccessToken(1L, "user@test.com", "GENERAL");
+
+    // when
+    JwtTokenProvider rotated = new JwtTokenProvider(JwtKeyRing.from(
+        properties("ES256", null, entry("new", newKey, true), entry("old", oldKey, false))), 1800, 604800, AuthMetrics.noop());
+    JwtTokenProvider removed = new JwtTokenProvider(JwtKeyRing.from(
+        properties("ES256", null, entry("new", newKey, true))), 1800, 604800, AuthMetrics.noop());
+
+    // then
+    assertThat(rotated.parseToken(oldToken).userId()).isEqualTo(1L);
+    assertThat(kidOf(rotated.createAccessToken(2L, "user2@test.com", "GENERAL"))).isEqualTo("new");
+    assertThatThrownBy(() -> removed.parseToken(oldToken)).isInstanceOf(JwtException.class);
+  }
+
+  @Test
+  @DisplayName("비대칭 전환 후 kid 없는 HS256 토큰은 secret 이 남아 있을 때만 검증한다")
+  void es256_acceptsLegacyHmacTokens_onlyWhileSecretConfigured() throws Exception {
+    // given
+    String legacyToken = new JwtTokenProvider(SECRET, 1800, 604800).createAccessToken(1L, "user@test.com", "GENERAL");
+    KeyPair key = ecKeyPair();
+
+    // when
+    JwtTokenProvider withSecret = new JwtTokenProvider(
+        JwtKeyRing.from(properties("ES256", SECRET, entry("k1", key, true))), 1800, 604800, AuthMetrics.noop());
+    JwtTokenProvider withoutSecret = new JwtTokenProvider(
+        JwtKeyRing.from(properties("ES256", null, entry("k1", key, true))), 1800, 604800, AuthMetrics.noop());
+
+    // then
+    assertThat(withSecret.parseToken(legacyToken).userId()).isEqualTo(1L);
+    assertThatThrownBy(() -> withoutSecret.parseToken(legacyToken)).isInstanceOf(JwtException.class);
+  }
+
+  @Test
+  @DisplayName("현재 키에 private key 가 없거나 알고리즘이 지원되지 않으면 기동 시 거부한다")
+  void from_rejectsInvalidConfiguration() throws Exception {
+    KeyPair key = ecKeyPair();
+
+    assertThatThrownBy(() -> JwtKeyRing.from(properties("ES256", null, entry("k1", key, false))))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> JwtKeyRing.from(properties("RS256", SECRET)))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> JwtKeyRing.from(properties("HS256", "short")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static JwtKeyProperties properties(String algorithm, String secret, JwtKeyProperties.KeyEntry... keys) {
+    JwtKeyProperties properties = new JwtKeyProperties();
+    properties.setAlgorithm(algorithm);
+    properties.setSecret(secret);
+    properties.setKeys(new ArrayList<>(List.of(keys)));
+    return properties;
+  }
+
+  private static JwtKeyProperties.KeyEntry entry(String kid, KeyPair key, boolean withPrivateKey) {
+    JwtKeyProperties.KeyEntry entry = new JwtKeyProperties.KeyEntry();
+    entry.setKid(kid);
+    entry.setPublicKey(Base64.getEncoder().encodeToString(key.getPublic().getEncoded()));
+    if (withPrivateKey) {
+      entry.setPrivateKey(Base64.getEncoder().encodeToString(key.getPrivate().getEncoded()));
+    }
+    return entry;
+  }
+
+  private static KeyPair ecKeyPair() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp256r1"));
+    return generator.generateKeyPair();
+  }
+
+  /**
+   * 서명 검증 없이 헤더의 kid 만 읽는다
+   */
+  private static String kidOf(String token) throws Exception {
+    byte[] header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+    return new ObjectMapper().readTree(header).path("kid").asText(null);
+  }
+}
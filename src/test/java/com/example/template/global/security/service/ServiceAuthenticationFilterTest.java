@@ -0,0 +1,100 @@
+package com.example.template.global.security.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceAuthenticationFilterTest {
+
+  private static final String ORDER_KEY = "order-service-key-0123456789abcdefghij";
+  private static final String BILLING_KEY = "billing-service-key-0123456789abcdefghij";
+
+  private ServiceAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = new ServiceAuthenticationFilter(List.of("order:" + ORDER_KEY, "billing:" + BILLING_KEY));
+    SecurityContextHolder.clearContext();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("등록된 서비스 키면 서비스명과 ROLE_SERVICE 로 인증한다")
+  void doFilter_authenticatesService_whenKeyMatches() throws Exception {
+    // given
+    MockHttpServletRequest request = internalRequest();
+    request.addHeader(ServiceAuthenticationFilter.SERVICE_KEY_HEADER, BILLING_KEY);
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertThat(authentication).isNotNull();
+    assertThat(authentication.getPrincipal()).isEqualTo("billing");
+    assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+        .containsExactly("ROLE_SERVICE");
+  }
+
+  @Test
+  @DisplayName("키가 없거나 틀리면 인증 없이 다음 필터로 넘긴다")
+  void doFilter_leavesUnauthenticated_whenKeyMissingOrWrong() throws Exception {
+    // given
+    MockHttpServletRequest wrongKey = internalRequest();
+    wrongKey.addHeader(ServiceAuthenticationFilter.SERVICE_KEY_HEADER, ORDER_KEY + "x");
+    MockFilterChain chain = new MockFilterChain();
+
+    // when
+    filter.doFilter(internalRequest(), new MockHttpServletResponse(), new MockFilterChain());
+    filter.doFilter(wrongKey, new MockHttpServletResponse(), chain);
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(chain.getRequest()).isSameAs(wrongKey);
+  }
+
+  @Test
+  @DisplayName("내부 경로가 아니면 서비스 키가 있어도 인증하지 않는다")
+  void doFilter_ignoresServiceKey_outsideInternalPaths() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+    request.addHeader(ServiceAuthenticationFilter.SERVICE_KEY_HEADER, ORDER_KEY);
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  @DisplayName("32자 미만 키나 서비스명:키 형식이 아닌 설정은 기동 시 거부한다")
+  void constructor_rejectsWeakOrMalformedKeys() {
+    assertThatThrownBy(() -> new ServiceAuthenticationFilter(List.of("order:short-key")))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new ServiceAuthenticationFilter(List.of(ORDER_KEY)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static MockHttpServletRequest internalRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/users/batch");
+    request.setServletPath("/internal/users/batch");
+    return request;
+  }
+}
@@ -0,0 +1,140 @@
+package com.example.template.global.security.service;
+
+import com.example.template.global.monitoring.AuthMetrics;
+import com.example.template.global.security.session.JwtRevocationList;
+import com.example.template.global.security.session.OpaqueTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+class TokenIntrospectorTest {
+
+  private static final String SECRET = "test-secret-should-be-at-least-32-characters!";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private JwtTokenProvider jwtTokenProvider;
+  private TokenIntrospector tokenIntrospector;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800, new AuthMetrics(meterRegistry));
+    tokenIntrospector = new TokenIntrospector(jwtTokenProvider, OpaqueTokenStore.disabled(),
+        JwtRevocationList.disabled(), 1000, 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    tokenIntrospector.shutdown();
+  }
+
+  @Test
+  @DisplayName("유효한 토큰은 userId/role/exp 를 반환하고 두 번째 검사는 캐시에서 응답한다")
+  void introspect_returnsClaims_andCachesValidResult() {
+    // given
+    String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+
+    // when
+    TokenIntrospection first = tokenIntrospector.introspect(token);
+    TokenIntrospection second = tokenIntrospector.introspect(token);
+
+    // then
+    assertThat(first.active()).isTrue();
+    assertThat(first.userId()).isEqualTo(1L);
+    assertThat(first.role()).isEqualTo("GENERAL");
+    assertThat(first.expiresAt()).isCloseTo(Instant.now().plusSeconds(1800), within(5, SECONDS));
+    assertThat(second).isEqualTo(first);
+    assertThat(verifyCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시된 토큰도 로그아웃으로 폐기되면 다음 검사부터 active=false 이다")
+  void introspect_returnsInactive_afterRevocation_evenWhenCached(@TempDir Path dir) throws Exception {
+    // given
+    JwtRevocationList revocationList = new JwtRevocationList(true, dir.resolve("revocations.dat").toString(), 100,
+        meterRegistry);
+    TokenIntrospector introspector = new TokenIntrospector(jwtTokenProvider, OpaqueTokenStore.disabled(),
+        revocationList, 1000, 2);
+    String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "GENERAL");
+    TokenClaims claims = jwtTokenProvider.parseToken(token);
+
+    // when
+    TokenIntrospection beforeLogout = introspector.introspect(token);
+    revocationList.revoke(claims.tokenId(), claims.expiresAt());
+    TokenIntrospection afterLogout = introspector.introspect(token);
+
+    // then
+    assertThat(beforeLogout.active()).isTrue();
+    assertThat(afterLogout).isEqualTo(TokenIntrospection.INACTIVE);
+    introspector.shutdown();
+    revocationList.close();
+  }
+
+  @Test
+  @DisplayName("만료/위조 토큰은 active=false 이며 캐시하지 않는다")
+  void introspect_returnsInactive_forExpiredOrMalformedTokens() {
+    // given
+    String expired = new JwtTokenProvider(SECRET, -60, 60).createAccessToken(1L, "user@test.com", "GENERAL");
+
+    // when
+    tokenIntrospector.introspect(expired);
+    TokenIntrospection result = tokenIntrospector.introspect(expired);
+
+    // then
+    assertThat(result).isEqualTo(TokenIntrospection.INACTIVE);
+    assertThat(tokenIntrospector.introspect("not-a-jwt").active()).isFalse();
+    assertThat(verifyCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("서명이 유효한 refresh token 도 access token 이 아니므로 active=false 이며 캐시하지 않는다")
+  void introspect_returnsInactive_forRefreshToken() {
+    // given
+    String refreshToken = jwtTokenProvider.createRefreshToken(1L, "user@test.com", "GENERAL");
+
+    // when
+    tokenIntrospector.introspect(refreshToken);
+    TokenIntrospection result = tokenIntrospector.introspect(refreshToken);
+
+    // then
+    assertThat(result).isEqualTo(TokenIntrospection.INACTIVE);
+    assertThat(verifyCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("병렬 검사 기준 이상의 배치도 요청 순서대로 결과를 반환한다")
+  void introspect_preservesOrder_forParallelBatch() {
+    // given: 짝수 번째는 유효, 홀수 번째는 위조 토큰
+    List<String> tokens = new ArrayList<>();
+    for (long i = 0; i < TokenIntrospector.PARALLEL_THRESHOLD * 4; i++) {
+      tokens.add(i % 2 == 0 ? jwtTokenProvider.createAccessToken(i, "user" + i + "@test.com", "GENERAL") : "invalid-" + i);
+    }
+
+    // when
+    List<TokenIntrospection> results = tokenIntrospector.introspect(tokens);
+
+    // then
+    assertThat(results).hasSize(tokens.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertThat(results.get(i).active()).isEqualTo(i % 2 == 0);
+      if (i % 2 == 0) {
+        assertThat(results.get(i).userId()).isEqualTo((long) i);
+      }
+    }
+  }
+
+  private long verifyCount() {
+    return meterRegistry.get(AuthMetrics.JWT_VERIFY).timers().stream().mapToLong(timer -> timer.count()).sum();
+  }
+}
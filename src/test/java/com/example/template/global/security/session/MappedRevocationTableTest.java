@@ -0,0 +1,159 @@
+package com.example.template.global.security.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedRevocationTableTest {
+
+  private static final long NOW = 1_700_000_000L;
+
+  @TempDir
+  Path dir;
+
+  @Test
+  @DisplayName("등록한 jti 는 만료 시각 전까지만 폐기된 것으로 본다")
+  void contains_untilExpiry() throws Exception {
+    try (MappedRevocationTable table = new MappedRevocationTable(dir.resolve("revocations.dat"), 100)) {
+      // when
+      table.add(1L, 2L, NOW + 60, NOW);
+
+      // then
+      assertThat(table.contains(1L, 2L, NOW)).isTrue();
+      assertThat(table.contains(1L, 2L, NOW + 60)).isFalse();
+      assertThat(table.contains(1L, 3L, NOW)).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("파일을 닫았다 다시 열어도 폐기 목록이 남아 있다")
+  void survivesReopen() throws Exception {
+    // given
+    Path file = dir.resolve("revocations.dat");
+    try (MappedRevocationTable table = new MappedRevocationTable(file, 100)) {
+      table.add(1L, 2L, NOW + 60, NOW);
+    }
+
+    // when
+    try (MappedRevocationTable reopened = new MappedRevocationTable(file, 100)) {
+      // then
+      assertThat(reopened.contains(1L, 2L, NOW)).isTrue();
+      assertThat(reopened.size()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("capacity 를 바꿔 다시 열면 만료되지 않은 레코드만 새 크기로 옮긴다")
+  void reopenWithDifferentCapacity_carriesLiveRecords() throws Exception {
+    // given
+    Path file = dir.resolve("revocations.dat");
+    long now = System.currentTimeMillis() / 1000;
+    try (MappedRevocationTable table = new MappedRevocationTable(file, 100)) {
+      table.add(1L, 1L, now + 600, now);
+      table.add(2L, 2L, now - 1, now - 10);
+    }
+
+    // when
+    try (MappedRevocationTable resized = new MappedRevocationTable(file, 10_000)) {
+      // then
+      assertThat(resized.contains(1L, 1L, now)).isTrue();
+      assertThat(resized.size()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("압축하면 만료 레코드만 지우고, 같은 슬롯으로 충돌한 나머지 레코드는 계속 조회된다")
+  void compact_purgesExpired_andKeepsCollidingRecordsReachable() throws Exception {
+    try (MappedRevocationTable table = new MappedRevocationTable(dir.resolve("revocations.dat"), 100)) {
+      // given: hash1 이 같으면 home 슬롯이 같다
+      for (long hash2 = 1; hash2 <= 6; hash2++) {
+        table.add(7L, hash2, hash2 % 2 == 0 ? NOW + 60 : NOW + 1, NOW);
+      }
+
+      // when
+      long purged = table.compact(NOW + 1);
+
+      // then
+      assertThat(purged).isEqualTo(3);
+      assertThat(table.size()).isEqualTo(3);
+      assertThat(table.contains(7L, 2L, NOW + 1)).isTrue();
+      assertThat(table.contains(7L, 4L, NOW + 1)).isTrue();
+      assertThat(table.contains(7L, 6L, NOW + 1)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("capacity 에 도달하면 거부하고, 만료분이 있으면 정리 후 등록한다")
+  void add_rejectsWhenFull_untilRecordsExpire() throws Exception {
+    try (MappedRevocationTable table = new MappedRevocationTable(dir.resolve("revocations.dat"), 4)) {
+      // given
+      for (long i = 1; i <= 4; i++) {
+        assertThat(table.add(i, i, NOW + i, NOW)).isTrue();
+      }
+
+      // when
+      boolean rejected = table.add(9L, 9L, NOW + 60, NOW);
+      boolean accepted = table.add(9L, 9L, NOW + 60, NOW + 2);
+
+      // then
+      assertThat(rejected).isFalse();
+      assertThat(accepted).isTrue();
+      assertThat(table.contains(9L, 9L, NOW + 2)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("압축 청크 사이에 가득 찬 테이블에 등록해 레코드가 이미 지난 청크로 당겨져도 폐기 상태가 유지된다")
+  void compact_keepsRecordMovedIntoScannedChunk_byAddBetweenChunks() throws Exception {
+    // given: capacity 4096 -> 슬롯 8192(청크 2개), 청크 경계(4095|4096)에 같은 home 의 레코드 두 개
+    int chunk = MappedRevocationTable.COMPACT_CHUNK_SLOTS;
+    try (MappedRevocationTable table = new MappedRevocationTable(dir.resolve("revocations.dat"), chunk)) {
+      int slotBits = Integer.numberOfTrailingZeros(chunk * 2);
+      for (long slot = 0; slot < chunk - 2; slot++) {
+        table.add(hashForHome(slot, 0, slotBits), slot + 1, NOW + 600, NOW);
+      }
+      long expiring = hashForHome(chunk - 1, 0, slotBits);
+      long moved = hashForHome(chunk - 1, 1, slotBits);  // home 이 같아 다음 슬롯(다음 청크 첫 슬롯)에 놓인다
+      table.add(expiring, 1L, NOW + 1, NOW);
+      table.add(moved, 2L, NOW + 600, NOW);
+
+      // when: 첫 청크를 본 뒤, 가득 찬 테이블에 등록 -> 전체 정리로 moved 가 첫 청크로 당겨진다
+      table.beginCompaction();
+      table.compactChunk(0, NOW);
+      boolean added = table.add(hashForHome(chunk + 100, 0, slotBits), 3L, NOW + 600, NOW + 1);
+      table.compactChunk(chunk, NOW + 1);
+      table.finishCompaction();
+
+      // then
+      assertThat(added).isTrue();
+      assertThat(table.contains(expiring, 1L, NOW + 1)).isFalse();
+      assertThat(table.contains(moved, 2L, NOW + 1)).isTrue();
+    }
+  }
+
+  /**
+   * home(hash1) = (hash1 * 황금비 상수) >>> (64 - slotBits) 가 slot 이 되는 hash1 (salt 로 같은 home 의 다른 값)
+   */
+  private static long hashForHome(long slot, long salt, int slotBits) {
+    long golden = 0x9E3779B97F4A7C15L;
+    long inverse = golden;
+    for (int i = 0; i < 5; i++) {
+      inverse *= 2 - golden * inverse;
+    }
+    return ((slot << (64 - slotBits)) + salt) * inverse;
+  }
+
+  @Test
+  @DisplayName("이미 열려 있는 파일은 다시 열지 않는다")
+  void rejectsFileAlreadyInUse() throws Exception {
+    Path file = dir.resolve("revocations.dat");
+    try (MappedRevocationTable ignored = new MappedRevocationTable(file, 100)) {
+      assertThatThrownBy(() -> new MappedRevocationTable(file, 100)).isInstanceOf(IllegalStateException.class);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.example.template.global.security.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapSessionTableTest {
+
+  private static final long NOW = 1_700_000_000L;
+
+  @Test
+  @DisplayName("저장한 세션을 조회하고 삭제하면 더 이상 조회되지 않는다")
+  void putGetRemove() {
+    // given
+    OffHeapSessionTable table = new OffHeapSessionTable(100);
+
+    // when
+    boolean stored = table.put(1L, 2L, 42L, 1, NOW + 60, NOW);
+    OffHeapSessionTable.Session session = table.get(1L, 2L, NOW);
+    boolean removed = table.remove(1L, 2L);
+
+    // then
+    assertThat(stored).isTrue();
+    assertThat(session).isEqualTo(new OffHeapSessionTable.Session(42L, 1, NOW + 60));
+    assertThat(removed).isTrue();
+    assertThat(table.get(1L, 2L, NOW)).isNull();
+    assertThat(table.remove(1L, 2L)).isFalse();
+    assertThat(table.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("만료 시각이 지난 세션은 조회되지 않고 purge 로 정리된다")
+  void expiredSession_isHiddenAndPurged() {
+    // given
+    OffHeapSessionTable table = new OffHeapSessionTable(100);
+    table.put(1L, 1L, 1L, 0, NOW + 10, NOW);
+    table.put(2L, 2L, 2L, 0, NOW + 100, NOW);
+
+    // when
+    long purged = table.purgeExpired(NOW + 10);
+
+    // then
+    assertThat(table.get(1L, 1L, NOW + 10)).isNull();
+    assertThat(table.get(2L, 2L, NOW + 10)).isNotNull();
+    assertThat(purged).isEqualTo(1);
+    assertThat(table.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("같은 슬롯으로 충돌한 세션 중 앞의 것을 지워도 뒤의 세션은 backward shift 로 계속 조회된다")
+  void remove_keepsCollidingKeysReachable() {
+    // given: keyLo 가 같으면 home 슬롯이 같다
+    OffHeapSessionTable table = new OffHeapSessionTable(100);
+    for (long hi = 1; hi <= 5; hi++) {
+      table.put(hi, 7L, hi * 10, 0, NOW + 60, NOW);
+    }
+
+    // when
+    table.remove(1L, 7L);
+    table.remove(3L, 7L);
+
+    // then
+    assertThat(table.get(2L, 7L, NOW).userId()).isEqualTo(20L);
+    assertThat(table.get(4L, 7L, NOW).userId()).isEqualTo(40L);
+    assertThat(table.get(5L, 7L, NOW).userId()).isEqualTo(50L);
+    assertThat(table.get(1L, 7L, NOW)).isNull();
+    assertThat(table.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("capacity 에 도달하면 거부하고, 만료분이 있으면 정리 후 저장한다")
+  void put_rejectsWhenFull_untilSessionsExpire() {
+    // given
+    OffHeapSessionTable table = new OffHeapSessionTable(4);
+    for (long i = 1; i <= 4; i++) {
+      assertThat(table.put(i, i, i, 0, NOW + i, NOW)).isTrue();
+    }
+
+    // when
+    boolean rejected = table.put(9L, 9L, 9L, 0, NOW + 60, NOW);
+    boolean accepted = table.put(9L, 9L, 9L, 0, NOW + 60, NOW + 2);
+
+    // then
+    assertThat(rejected).isFalse();
+    assertThat(accepted).isTrue();
+    assertThat(table.get(9L, 9L, NOW + 2).userId()).isEqualTo(9L);
+    assertThat(table.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("capacity 가 0 이하이면 생성하지 않는다")
+  void constructor_rejectsNonPositiveCapacity() {
+    assertThatThrownBy(() -> new OffHeapSessionTable(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
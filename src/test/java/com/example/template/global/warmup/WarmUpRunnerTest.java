@@ -0,0 +1,42 @@
+package com.example.template.global.warmup;
+
+import com.example.template.global.security.service.JwtKeyRing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmUpRunnerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JwtKeyRing keyRing = JwtKeyRing.hmac("warm-up-test-secret-key-at-least-32-characters");
+
+  @Test
+  @DisplayName("토큰/JSON/비밀번호 합성 호출을 제한 시간 안에 마치면 true")
+  void warmUp_returnsTrue_whenCompletedWithinTimeout() throws Exception {
+    // given
+    WarmUpRunner runner = new WarmUpRunner(objectMapper, keyRing, 200, 2, 2, Duration.ofSeconds(30));
+
+    // when & then
+    assertThat(runner.warmUp()).isTrue();
+  }
+
+  @Test
+  @DisplayName("제한 시간이 지나면 남은 작업을 중단하고 false 로 바로 돌아온다")
+  void warmUp_returnsFalse_whenTimedOut() throws Exception {
+    // given
+    WarmUpRunner runner = new WarmUpRunner(objectMapper, keyRing, Integer.MAX_VALUE, 2, 2, Duration.ofMillis(100));
+
+    // when
+    long start = System.nanoTime();
+    boolean completed = runner.warmUp();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertThat(completed).isFalse();
+    assertThat(elapsedMillis).isLessThan(5_000);
+  }
+}
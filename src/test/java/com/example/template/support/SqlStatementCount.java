@@ -0,0 +1,27 @@
+package com.example.template.support;
+
+import com.example.template.global.monitoring.SqlStatementCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출 1회가 실행하는 SQL 문 수 검증 (SpringBootTest 에서 현재 스레드 기준)
+ * 조회/저장 왕복이 추가되면 기대값과 달라져 테스트가 실패한다
+ */
+public final class SqlStatementCount {
+
+  private SqlStatementCount() {
+  }
+
+  public static long during(Runnable action) {
+    SqlStatementCounter.reset();
+    action.run();
+    return SqlStatementCounter.current();
+  }
+
+  public static void assertStatements(long expected, Runnable action) {
+    assertThat(during(action))
+        .as("SQL 문 수")
+        .isEqualTo(expected);
+  }
+}